@@ -0,0 +1,26 @@
+package com.ksr930.nhnkcp;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트. 웹 서버 없이 임베디드 H2 위에 서비스 빈만 올린다.
+ * 벤치마크 클래스마다 별도 DB 를 쓰도록 이름을 받는다.
+ */
+public final class BenchmarkApplication {
+	private BenchmarkApplication() {
+	}
+
+	public static ConfigurableApplicationContext start(String databaseName, String... properties) {
+		return new SpringApplicationBuilder(NhnkcpApplication.class)
+				.web(WebApplicationType.NONE)
+				.properties(
+						"spring.datasource.url=jdbc:h2:mem:" + databaseName + ";LOCK_TIMEOUT=3000",
+						"spring.jpa.show-sql=false",
+						"logging.level.root=WARN"
+				)
+				.properties(properties)
+				.run();
+	}
+}
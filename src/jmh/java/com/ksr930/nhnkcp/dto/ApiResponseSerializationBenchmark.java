@@ -0,0 +1,72 @@
+package com.ksr930.nhnkcp.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksr930.nhnkcp.BenchmarkApplication;
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.dto.order.OrderItemResponse;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 애플리케이션과 같은 설정의 ObjectMapper 로 ApiResponse 를 직렬화하는 비용.
+ */
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+	@Param({"1", "5", "20"})
+	int itemsPerOrder;
+
+	@Param({"20", "100"})
+	int pageSize;
+
+	private ConfigurableApplicationContext context;
+	private ObjectMapper objectMapper;
+	private ApiResponse<OrderResponse> single;
+	private ApiResponse<PageImpl<OrderResponse>> page;
+
+	@Setup
+	public void prepare() {
+		context = BenchmarkApplication.start("serialization-benchmark");
+		objectMapper = context.getBean(ObjectMapper.class);
+		List<OrderResponse> orders = new ArrayList<>(pageSize);
+		for (long id = 1; id <= pageSize; id++) {
+			orders.add(order(id));
+		}
+		single = ApiResponse.success(orders.get(0));
+		page = ApiResponse.success(new PageImpl<>(orders, PageRequest.of(0, pageSize), pageSize * 10L));
+	}
+
+	@TearDown
+	public void stop() {
+		context.close();
+	}
+
+	@Benchmark
+	public byte[] order() throws Exception {
+		return objectMapper.writeValueAsBytes(single);
+	}
+
+	@Benchmark
+	public byte[] orderPage() throws Exception {
+		return objectMapper.writeValueAsBytes(page);
+	}
+
+	private OrderResponse order(long id) {
+		List<OrderItemResponse> items = new ArrayList<>(itemsPerOrder);
+		for (long i = 0; i < itemsPerOrder; i++) {
+			items.add(new OrderItemResponse(i + 1, "상품-" + i, 1000, 2));
+		}
+		LocalDateTime now = LocalDateTime.now();
+		return new OrderResponse(id, OrderStatus.COMPLETED, now, now, items);
+	}
+}
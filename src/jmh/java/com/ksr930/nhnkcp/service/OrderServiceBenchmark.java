@@ -0,0 +1,145 @@
+package com.ksr930.nhnkcp.service;
+
+import com.ksr930.nhnkcp.BenchmarkApplication;
+import com.ksr930.nhnkcp.domain.order.Order;
+import com.ksr930.nhnkcp.domain.order.OrderItem;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.dto.CountMode;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderFields;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+/**
+ * OrderService 핫패스. 주문 생성/단건 조회는 주문당 항목 수, 목록 조회는 페이지 크기로 파라미터화한다.
+ */
+public class OrderServiceBenchmark {
+	private static final int PRODUCT_COUNT = 64;
+	private static final int SEEDED_ORDERS = 500;
+
+	@State(Scope.Benchmark)
+	public static class Context {
+		ConfigurableApplicationContext context;
+		OrderService orderService;
+		List<Product> products = new ArrayList<>();
+
+		@Setup
+		public void start() {
+			context = BenchmarkApplication.start("order-benchmark");
+			orderService = context.getBean(OrderService.class);
+			ProductRepository productRepository = context.getBean(ProductRepository.class);
+			for (int i = 0; i < PRODUCT_COUNT; i++) {
+				Product product = new Product();
+				product.setName("상품-" + i);
+				product.setPrice(1000 + i);
+				// 생성은 재고를 확인만 하므로 반복 실행해도 줄지 않는다.
+				product.setStockQuantity(Integer.MAX_VALUE);
+				product.setCategory(Category.FOOD);
+				products.add(productRepository.save(product));
+			}
+		}
+
+		@TearDown
+		public void stop() {
+			context.close();
+		}
+
+		OrderCreateRequest request(int itemsPerOrder) {
+			List<OrderItemRequest> items = new ArrayList<>(itemsPerOrder);
+			for (int i = 0; i < itemsPerOrder; i++) {
+				items.add(new OrderItemRequest(products.get(i % PRODUCT_COUNT).getId(), 1));
+			}
+			return new OrderCreateRequest(items);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Items {
+		@Param({"1", "5", "20"})
+		int itemsPerOrder;
+
+		OrderCreateRequest request;
+		long[] orderIds;
+		Order detached;
+
+		@Setup
+		public void prepare(Context context) {
+			request = context.request(itemsPerOrder);
+			orderIds = new long[SEEDED_ORDERS];
+			for (int i = 0; i < SEEDED_ORDERS; i++) {
+				orderIds[i] = context.orderService.create(request).id();
+			}
+			detached = new Order();
+			detached.setId(1L);
+			for (int i = 0; i < itemsPerOrder; i++) {
+				OrderItem item = new OrderItem();
+				item.setOrder(detached);
+				item.setProduct(context.products.get(i % PRODUCT_COUNT));
+				item.setQuantity(1);
+				item.setUnitPrice(item.getProduct().getPrice());
+				detached.getItems().add(item);
+			}
+		}
+
+		long randomOrderId() {
+			return orderIds[ThreadLocalRandom.current().nextInt(orderIds.length)];
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Pages {
+		@Param({"20", "100"})
+		int pageSize;
+
+		PageRequest pageable;
+
+		@Setup
+		public void prepare(Context context) {
+			pageable = PageRequest.of(0, pageSize);
+			OrderCreateRequest request = context.request(3);
+			for (int i = 0; i < SEEDED_ORDERS; i++) {
+				context.orderService.create(request);
+			}
+		}
+	}
+
+	@Benchmark
+	public OrderResponse create(Context context, Items items) {
+		return context.orderService.create(items.request);
+	}
+
+	// PENDING 주문이라 종결 상태 캐시를 타지 않고 fetch join 조회 + 매핑을 측정한다.
+	@Benchmark
+	public OrderResponse get(Context context, Items items) {
+		return context.orderService.get(items.randomOrderId());
+	}
+
+	@Benchmark
+	public OrderResponse toResponse(Items items) {
+		return OrderService.toResponse(items.detached);
+	}
+
+	@Benchmark
+	public Slice<OrderResponse> list(Context context, Pages pages) {
+		return context.orderService.list(pages.pageable, CountMode.EXACT, OrderFields.FULL);
+	}
+
+	@Benchmark
+	public Slice<OrderResponse> listWithoutCount(Context context, Pages pages) {
+		return context.orderService.list(pages.pageable, CountMode.NONE, OrderFields.FULL);
+	}
+}
@@ -0,0 +1,91 @@
+package com.ksr930.nhnkcp.service;
+
+import com.ksr930.nhnkcp.BenchmarkApplication;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * StockService#decrease 를 같은 상품에 대해 contendingThreads 개 스레드가 동시에 호출하는 한 라운드의 지연을 잰다.
+ * 재고 전략은 jmh.stockMode 시스템 프로퍼티(기본 conditional-update)로 바꿀 수 있다.
+ */
+@State(Scope.Benchmark)
+public class StockServiceBenchmark {
+	private static final int INITIAL_STOCK = 1_000_000_000;
+
+	@Param({"1", "4", "16"})
+	int contendingThreads;
+
+	@Param({"1", "5"})
+	int itemsPerOrder;
+
+	private ConfigurableApplicationContext context;
+	private StockService stockService;
+	private TransactionTemplate transactionTemplate;
+	private ExecutorService executor;
+	private List<Product> products;
+	private Map<Long, Integer> quantityByProductId;
+
+	@Setup
+	public void start() {
+		context = BenchmarkApplication.start(
+				"stock-benchmark",
+				"nhnkcp.stock.mode=" + System.getProperty("jmh.stockMode", "conditional-update")
+		);
+		stockService = context.getBean(StockService.class);
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+		ProductRepository productRepository = context.getBean(ProductRepository.class);
+		products = new ArrayList<>();
+		for (int i = 0; i < itemsPerOrder; i++) {
+			Product product = new Product();
+			product.setName("재고-" + i);
+			product.setPrice(1000);
+			product.setStockQuantity(INITIAL_STOCK);
+			product.setCategory(Category.FOOD);
+			products.add(productRepository.save(product));
+		}
+		Map<Long, Integer> quantities = new TreeMap<>();
+		products.forEach(product -> quantities.put(product.getId(), 1));
+		quantityByProductId = quantities;
+		executor = Executors.newFixedThreadPool(contendingThreads);
+	}
+
+	@Setup(Level.Iteration)
+	public void refill() {
+		products.forEach(product -> stockService.replaceStock(product, INITIAL_STOCK));
+	}
+
+	@TearDown
+	public void stop() {
+		executor.shutdownNow();
+		context.close();
+	}
+
+	@Benchmark
+	public void decrease() throws Exception {
+		List<Future<?>> round = new ArrayList<>(contendingThreads);
+		for (int i = 0; i < contendingThreads; i++) {
+			round.add(executor.submit(() ->
+					transactionTemplate.executeWithoutResult(status -> stockService.decrease(quantityByProductId))));
+		}
+		for (Future<?> future : round) {
+			future.get();
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.ksr930.nhnkcp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * 애플리케이션 API 호출기. 요청마다 지연을 {@link EndpointStats} 에 기록한다.
+ * 지연은 호출자가 넘긴 의도된 시작 시각부터 잰다. 열린 루프에서는 스케줄 상 시작 시각이 되어,
+ * 요청이 밀려 늦게 보내진 시간까지 지연에 포함된다.
+ */
+final class ApiClient {
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+	private final String baseUrl;
+	private final HttpClient httpClient;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final EndpointStats stats;
+
+	ApiClient(String baseUrl, EndpointStats stats) {
+		this.baseUrl = baseUrl;
+		this.stats = stats;
+		this.httpClient = HttpClient.newBuilder()
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+	}
+
+	Response call(String method, String endpoint, String path, Object body, long intendedStartNanos, long expectedIntervalNanos) {
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+				.timeout(REQUEST_TIMEOUT)
+				.header("Content-Type", "application/json");
+		try {
+			request.method(method, body == null
+					? HttpRequest.BodyPublishers.noBody()
+					: HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+		} catch (IOException ex) {
+			throw new IllegalArgumentException(ex);
+		}
+		int status;
+		JsonNode data = null;
+		try {
+			HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+			status = response.statusCode();
+			if (status < 300 && response.body().length > 0) {
+				data = objectMapper.readTree(response.body()).get("data");
+			}
+		} catch (IOException ex) {
+			status = -1;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			status = -1;
+		}
+		long end = System.nanoTime();
+		boolean success = status >= 200 && status < 300;
+		stats.record(endpoint, end - intendedStartNanos, expectedIntervalNanos, success);
+		return new Response(status, data, end);
+	}
+
+	record Response(int status, JsonNode data, long completedAtNanos) {
+		boolean ok() {
+			return status >= 200 && status < 300;
+		}
+	}
+}
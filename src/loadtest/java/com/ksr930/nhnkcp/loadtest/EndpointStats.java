@@ -0,0 +1,58 @@
+package com.ksr930.nhnkcp.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 엔드포인트(메서드 + 경로 템플릿) 별 지연 히스토그램과 오류 수.
+ * 모든 값은 마이크로초로 기록한다.
+ */
+final class EndpointStats {
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+	private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+	void record(String endpoint, long latencyNanos, long expectedIntervalNanos, boolean success) {
+		Endpoint stats = endpoints.computeIfAbsent(endpoint, key -> new Endpoint());
+		long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+		if (expectedIntervalNanos > 0) {
+			// 닫힌 루프에서 응답이 늦어 보내지 못한 요청들의 지연을 채워 넣는다 (coordinated omission 보정).
+			stats.recorder.recordValueWithExpectedInterval(micros, TimeUnit.NANOSECONDS.toMicros(expectedIntervalNanos));
+		} else {
+			stats.recorder.recordValue(micros);
+		}
+		if (!success) {
+			stats.errors.increment();
+		}
+	}
+
+	// 워밍업 구간에 쌓인 값을 버린다.
+	void reset() {
+		endpoints.values().forEach(Endpoint::reset);
+	}
+
+	Map<String, Snapshot> snapshot() {
+		Map<String, Snapshot> snapshots = new TreeMap<>();
+		endpoints.forEach((name, stats) -> snapshots.put(name,
+				new Snapshot(stats.recorder.getIntervalHistogram(), stats.errors.sum())));
+		return snapshots;
+	}
+
+	record Snapshot(Histogram histogram, long errors) {
+	}
+
+	private static final class Endpoint {
+		private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+		private final LongAdder errors = new LongAdder();
+
+		private void reset() {
+			recorder.reset();
+			errors.reset();
+		}
+	}
+}
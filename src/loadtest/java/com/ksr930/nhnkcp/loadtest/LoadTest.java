@@ -0,0 +1,175 @@
+package com.ksr930.nhnkcp.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 로컬에서 띄운 애플리케이션(./gradlew bootRun)에 주문 흐름 부하를 건다.
+ *
+ * <ul>
+ *   <li>OPEN: rate 만큼 고정된 간격으로 시나리오를 시작한다. 응답이 느려져도 도착률은 줄지 않으며,
+ *   지연은 스케줄 상 시작 시각부터 재므로 coordinated omission 이 생기지 않는다.</li>
+ *   <li>CLOSED: clients 명이 시나리오를 반복한다. expected-interval-ms 를 주면 그 간격을 기준으로 보정한다.</li>
+ * </ul>
+ * 모든 시나리오는 가상 스레드에서 실행된다.
+ */
+public final class LoadTest {
+	private LoadTest() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestOptions options = LoadTestOptions.parse(args);
+		EndpointStats stats = new EndpointStats();
+		ApiClient client = new ApiClient(options.baseUrl(), stats);
+
+		List<Long> productIds = createProducts(client, options);
+		OrderLifecycleScenario scenario = new OrderLifecycleScenario(
+				client, new ProductPicker(productIds, options.hotProducts(), options.hotRatio()), options.cancelRatio());
+
+		long start = System.nanoTime();
+		long measureStart = start + options.warmup().toNanos();
+		long end = measureStart + options.duration().toNanos();
+		Thread.ofVirtual().start(() -> {
+			sleepUntil(measureStart);
+			stats.reset();
+		});
+
+		AtomicLong dropped = new AtomicLong();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			if (options.mode() == LoadTestOptions.Mode.OPEN) {
+				runOpen(options, scenario, executor, start, end, measureStart, dropped);
+			} else {
+				runClosed(options, scenario, executor, end);
+			}
+		}
+		long measuredNanos = System.nanoTime() - measureStart;
+
+		report(System.out, options, stats.snapshot(), measuredNanos, dropped.get());
+	}
+
+	private static void runOpen(
+			LoadTestOptions options,
+			OrderLifecycleScenario scenario,
+			ExecutorService executor,
+			long start,
+			long end,
+			long measureStart,
+			AtomicLong dropped
+	) {
+		long periodNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate());
+		AtomicInteger inFlight = new AtomicInteger();
+		for (long i = 0; ; i++) {
+			long intended = start + i * periodNanos;
+			if (intended >= end) {
+				return;
+			}
+			sleepUntil(intended);
+			if (inFlight.get() >= options.maxInFlight()) {
+				// 부하 생성기 자체를 보호하기 위해 버린 도착. 결과에 따로 표시한다.
+				if (intended >= measureStart) {
+					dropped.incrementAndGet();
+				}
+				continue;
+			}
+			inFlight.incrementAndGet();
+			executor.execute(() -> {
+				try {
+					scenario.run(intended, 0);
+				} finally {
+					inFlight.decrementAndGet();
+				}
+			});
+		}
+	}
+
+	private static void runClosed(
+			LoadTestOptions options,
+			OrderLifecycleScenario scenario,
+			ExecutorService executor,
+			long end
+	) {
+		long intervalNanos = options.expectedInterval().toNanos();
+		for (int i = 0; i < options.clients(); i++) {
+			executor.execute(() -> {
+				long next = System.nanoTime();
+				while (next < end) {
+					long started = System.nanoTime();
+					scenario.run(started, intervalNanos);
+					next = intervalNanos > 0 ? Math.max(next + intervalNanos, started) : System.nanoTime();
+					sleepUntil(next);
+				}
+			});
+		}
+	}
+
+	private static List<Long> createProducts(ApiClient client, LoadTestOptions options) {
+		List<Long> productIds = new ArrayList<>(options.products());
+		String[] categories = {"FOOD", "BEVERAGE"};
+		for (int i = 0; i < options.products(); i++) {
+			ApiClient.Response response = client.call("POST", "POST /api/products", "/api/products", Map.of(
+					"name", "load-test-" + i,
+					"price", 1000 + i,
+					"stockQuantity", options.initialStock(),
+					"category", categories[i % categories.length]
+			), System.nanoTime(), 0);
+			if (!response.ok()) {
+				throw new IllegalStateException("Failed to create product, status " + response.status()
+						+ ". Is the application running at " + options.baseUrl() + "?");
+			}
+			productIds.add(response.data().get("id").asLong());
+		}
+		return productIds;
+	}
+
+	private static void report(
+			PrintStream out,
+			LoadTestOptions options,
+			Map<String, EndpointStats.Snapshot> snapshots,
+			long measuredNanos,
+			long dropped
+	) throws IOException {
+		double seconds = measuredNanos / 1e9;
+		out.printf("mode=%s rate=%s clients=%d measured=%.1fs dropped=%d%n",
+				options.mode(), options.mode() == LoadTestOptions.Mode.OPEN ? options.rate() : "-",
+				options.mode() == LoadTestOptions.Mode.CLOSED ? options.clients() : 0, seconds, dropped);
+		out.printf("%-32s %10s %10s %8s %10s %10s %10s %10s%n",
+				"endpoint", "count", "req/s", "errors", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+		Files.createDirectories(options.outputDir());
+		for (Map.Entry<String, EndpointStats.Snapshot> entry : snapshots.entrySet()) {
+			Histogram histogram = entry.getValue().histogram();
+			out.printf("%-32s %10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f%n",
+					entry.getKey(),
+					histogram.getTotalCount(),
+					histogram.getTotalCount() / seconds,
+					entry.getValue().errors(),
+					histogram.getValueAtPercentile(50) / 1000.0,
+					histogram.getValueAtPercentile(99) / 1000.0,
+					histogram.getValueAtPercentile(99.9) / 1000.0,
+					histogram.getMaxValue() / 1000.0);
+			String fileName = entry.getKey().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm";
+			try (PrintStream file = new PrintStream(Files.newOutputStream(options.outputDir().resolve(fileName)))) {
+				// 마이크로초로 기록했으므로 1000 으로 나눠 ms 단위로 출력한다.
+				histogram.outputPercentileDistribution(file, 1000.0);
+			}
+		}
+		out.println("percentile distributions: " + options.outputDir().toAbsolutePath());
+	}
+
+	private static void sleepUntil(long deadlineNanos) {
+		long remaining;
+		while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(remaining);
+		}
+	}
+}
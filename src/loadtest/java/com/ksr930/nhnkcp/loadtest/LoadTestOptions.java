@@ -0,0 +1,109 @@
+package com.ksr930.nhnkcp.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * --key=value 형식의 실행 옵션.
+ */
+record LoadTestOptions(
+		String baseUrl,
+		Mode mode,
+		// OPEN: 초당 시작하는 시나리오 수
+		double rate,
+		// CLOSED: 동시에 시나리오를 반복하는 클라이언트 수
+		int clients,
+		// CLOSED: 클라이언트 한 명이 시나리오를 시작하려던 간격. 0 이면 쉬지 않고 반복하며 보정하지 않는다.
+		Duration expectedInterval,
+		Duration warmup,
+		Duration duration,
+		int products,
+		// 전체 상품 중 인기 상품 수와, 주문 항목이 인기 상품에서 뽑힐 확률
+		int hotProducts,
+		double hotRatio,
+		int initialStock,
+		double cancelRatio,
+		int maxInFlight,
+		Path outputDir
+) {
+	private static final Set<String> KEYS = Set.of(
+			"base-url", "mode", "rate", "clients", "expected-interval-ms", "warmup-seconds", "duration-seconds",
+			"products", "hot-products", "hot-ratio", "initial-stock", "cancel-ratio", "max-in-flight", "output-dir"
+	);
+
+	enum Mode {
+		OPEN,
+		CLOSED
+	}
+
+	/**
+	 * 모르는 키, 숫자로 읽을 수 없는 값, 범위를 벗어난 값은 {@link IllegalArgumentException} 으로 거부한다.
+	 */
+	static LoadTestOptions parse(String[] args) {
+		Map<String, String> values = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("Expected --key=value but got " + arg);
+			}
+			int separator = arg.indexOf('=');
+			values.put(arg.substring(2, separator), arg.substring(separator + 1));
+		}
+		Set<String> unknown = new TreeSet<>(values.keySet());
+		unknown.removeAll(KEYS);
+		if (!unknown.isEmpty()) {
+			throw new IllegalArgumentException("Unknown options " + unknown + ", expected one of " + new TreeSet<>(KEYS));
+		}
+		LoadTestOptions options = new LoadTestOptions(
+				values.getOrDefault("base-url", "http://localhost:8080"),
+				parse(values, "mode", "open", value -> Mode.valueOf(value.toUpperCase())),
+				parse(values, "rate", "100", Double::parseDouble),
+				parse(values, "clients", "1000", Integer::parseInt),
+				Duration.ofMillis(parse(values, "expected-interval-ms", "0", Long::parseLong)),
+				Duration.ofSeconds(parse(values, "warmup-seconds", "10", Long::parseLong)),
+				Duration.ofSeconds(parse(values, "duration-seconds", "60", Long::parseLong)),
+				parse(values, "products", "100", Integer::parseInt),
+				parse(values, "hot-products", "5", Integer::parseInt),
+				parse(values, "hot-ratio", "0.8", Double::parseDouble),
+				parse(values, "initial-stock", "1000000", Integer::parseInt),
+				parse(values, "cancel-ratio", "0.1", Double::parseDouble),
+				parse(values, "max-in-flight", "20000", Integer::parseInt),
+				Path.of(values.getOrDefault("output-dir", "build/loadtest"))
+		);
+		options.validate();
+		return options;
+	}
+
+	private void validate() {
+		require(rate > 0, "rate must be positive");
+		require(clients > 0, "clients must be positive");
+		require(!expectedInterval.isNegative(), "expected-interval-ms must not be negative");
+		require(!warmup.isNegative(), "warmup-seconds must not be negative");
+		require(duration.isPositive(), "duration-seconds must be positive");
+		require(products > 0, "products must be positive");
+		require(hotProducts > 0 && hotProducts <= products, "hot-products must be between 1 and products");
+		require(hotRatio >= 0 && hotRatio <= 1, "hot-ratio must be between 0 and 1");
+		require(initialStock >= 0, "initial-stock must not be negative");
+		require(cancelRatio >= 0 && cancelRatio <= 1, "cancel-ratio must be between 0 and 1");
+		require(maxInFlight > 0, "max-in-flight must be positive");
+	}
+
+	private static <T> T parse(Map<String, String> values, String key, String defaultValue, Function<String, T> parser) {
+		String value = values.getOrDefault(key, defaultValue);
+		try {
+			return parser.apply(value);
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException("Invalid value for --" + key + ": " + value, ex);
+		}
+	}
+
+	private static void require(boolean condition, String message) {
+		if (!condition) {
+			throw new IllegalArgumentException(message);
+		}
+	}
+}
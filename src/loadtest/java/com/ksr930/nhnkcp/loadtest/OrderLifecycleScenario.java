@@ -0,0 +1,77 @@
+package com.ksr930.nhnkcp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * scripts/call_all_apis.py 와 같은 주문 흐름 한 번:
+ * 주문 생성 → 단건 조회 → RECEIVED → COMPLETED → (cancelRatio 확률로) CANCELED → 상품 조회 → 목록 조회.
+ * 첫 요청만 스케줄 시각을 기준으로 재고, 이후 요청은 앞 요청이 끝난 시각을 기준으로 잰다.
+ */
+final class OrderLifecycleScenario {
+	private static final int MAX_ITEMS = 3;
+
+	private final ApiClient client;
+	private final ProductPicker productPicker;
+	private final double cancelRatio;
+
+	OrderLifecycleScenario(ApiClient client, ProductPicker productPicker, double cancelRatio) {
+		this.client = client;
+		this.productPicker = productPicker;
+		this.cancelRatio = cancelRatio;
+	}
+
+	void run(long intendedStartNanos, long expectedIntervalNanos) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Set<Long> productIds = new LinkedHashSet<>();
+		// 뽑을 수 있는 상품이 항목 수보다 적으면 아래 루프가 끝나지 않는다.
+		int itemCount = random.nextInt(1, Math.min(MAX_ITEMS, productPicker.distinctProducts()) + 1);
+		while (productIds.size() < itemCount) {
+			productIds.add(productPicker.pick());
+		}
+		List<Map<String, Object>> items = new ArrayList<>(itemCount);
+		for (Long productId : productIds) {
+			items.add(Map.of("productId", productId, "quantity", 1));
+		}
+
+		ApiClient.Response created = client.call("POST", "POST /api/orders", "/api/orders",
+				Map.of("items", items), intendedStartNanos, expectedIntervalNanos);
+		if (!created.ok() || created.data() == null) {
+			return;
+		}
+		long orderId = created.data().get("id").asLong();
+		long last = created.completedAtNanos();
+
+		last = client.call("GET", "GET /api/orders/{id}", "/api/orders/" + orderId, null, last, 0).completedAtNanos();
+		ApiClient.Response step = transition(orderId, "RECEIVED", last);
+		if (!step.ok()) {
+			return;
+		}
+		step = transition(orderId, "COMPLETED", step.completedAtNanos());
+		if (!step.ok()) {
+			return;
+		}
+		last = step.completedAtNanos();
+		if (random.nextDouble() < cancelRatio) {
+			last = transition(orderId, "CANCELED", last).completedAtNanos();
+		}
+
+		Long productId = productIds.iterator().next();
+		ApiClient.Response product = client.call("GET", "GET /api/products/{id}", "/api/products/" + productId, null, last, 0);
+		JsonNode category = product.data() == null ? null : product.data().get("category");
+		String categoryQuery = category == null ? "" : "&category=" + category.asText();
+		last = client.call("GET", "GET /api/products", "/api/products?size=20" + categoryQuery, null,
+				product.completedAtNanos(), 0).completedAtNanos();
+		client.call("GET", "GET /api/orders?status", "/api/orders?status=COMPLETED&size=20&count=NONE", null, last, 0);
+	}
+
+	private ApiClient.Response transition(long orderId, String status, long intendedStartNanos) {
+		return client.call("PATCH", "PATCH /api/orders/{id}/status", "/api/orders/" + orderId + "/status",
+				Map.of("status", status), intendedStartNanos, 0);
+	}
+}
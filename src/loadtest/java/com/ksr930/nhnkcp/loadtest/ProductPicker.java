@@ -0,0 +1,33 @@
+package com.ksr930.nhnkcp.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 주문 항목 상품 선택기. hotRatio 확률로 앞쪽 hotProducts 개 중에서, 나머지는 전체에서 고르게 뽑는다.
+ * hotRatio 를 높일수록 같은 상품 행에 대한 재고 경합이 심해진다.
+ */
+final class ProductPicker {
+	private final List<Long> productIds;
+	private final int hotProducts;
+	private final double hotRatio;
+
+	ProductPicker(List<Long> productIds, int hotProducts, double hotRatio) {
+		this.productIds = productIds;
+		this.hotProducts = Math.max(1, Math.min(hotProducts, productIds.size()));
+		this.hotRatio = hotRatio;
+	}
+
+	// pick() 이 돌려줄 수 있는 서로 다른 상품 수. hotRatio 가 1 이면 인기 상품만 뽑힌다.
+	int distinctProducts() {
+		return hotRatio >= 1 ? hotProducts : productIds.size();
+	}
+
+	long pick() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		if (random.nextDouble() < hotRatio) {
+			return productIds.get(random.nextInt(hotProducts));
+		}
+		return productIds.get(random.nextInt(productIds.size()));
+	}
+}
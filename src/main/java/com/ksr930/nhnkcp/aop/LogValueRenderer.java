@@ -0,0 +1,132 @@
+package com.ksr930.nhnkcp.aop;
+
+import com.ksr930.nhnkcp.dto.ApiResponse;
+import java.lang.reflect.Array;
+import java.lang.reflect.RecordComponent;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 로그용 값 렌더링. 컬렉션과 페이지는 앞쪽 원소만, 문자열은 최대 길이까지만 만든다.
+ * 렌더링 비용이 로그에 남는 길이에 비례하도록 큰 응답 전체의 toString() 을 호출하지 않는다.
+ * 컨트롤러 결과는 ResponseEntity, ApiResponse 를 벗겨 데이터만 렌더링하고, 레코드(CursorPage, 응답 DTO)는
+ * 구성 요소마다 같은 제한을 적용한다.
+ */
+final class LogValueRenderer {
+	private static final ClassValue<RecordComponent[]> RECORD_COMPONENTS = new ClassValue<>() {
+		@Override
+		protected RecordComponent[] computeValue(Class<?> type) {
+			RecordComponent[] components = type.getRecordComponents();
+			for (RecordComponent component : components) {
+				component.getAccessor().trySetAccessible();
+			}
+			return components;
+		}
+	};
+
+	private final int maxLength;
+	private final int maxElements;
+
+	LogValueRenderer(int maxLength, int maxElements) {
+		this.maxLength = maxLength;
+		this.maxElements = maxElements;
+	}
+
+	String render(Object value) {
+		StringBuilder out = new StringBuilder(Math.min(maxLength, 64));
+		append(out, value);
+		if (out.length() > maxLength) {
+			out.setLength(maxLength);
+			out.append("...");
+		}
+		return out.toString();
+	}
+
+	String renderArgs(Object[] args) {
+		if (args == null || args.length == 0) {
+			return "[]";
+		}
+		StringBuilder out = new StringBuilder("[");
+		for (int i = 0; i < args.length; i++) {
+			if (i > 0) {
+				out.append(", ");
+			}
+			out.append(render(args[i]));
+		}
+		return out.append(']').toString();
+	}
+
+	private void append(StringBuilder out, Object value) {
+		if (value == null) {
+			out.append("null");
+		} else if (value instanceof ResponseEntity<?> entity) {
+			append(out, entity.getBody());
+		} else if (value instanceof ApiResponse<?> response) {
+			append(out, response.data());
+		} else if (value instanceof Page<?> page) {
+			out.append("Page(page=").append(page.getNumber())
+					.append(", size=").append(page.getNumberOfElements())
+					.append(", total=").append(page.getTotalElements()).append(") ");
+			appendElements(out, page.getContent().iterator(), page.getNumberOfElements());
+		} else if (value instanceof Slice<?> slice) {
+			out.append("Slice(page=").append(slice.getNumber())
+					.append(", size=").append(slice.getNumberOfElements())
+					.append(", hasNext=").append(slice.hasNext()).append(") ");
+			appendElements(out, slice.getContent().iterator(), slice.getNumberOfElements());
+		} else if (value instanceof Collection<?> collection) {
+			appendElements(out, collection.iterator(), collection.size());
+		} else if (value instanceof Map<?, ?> map) {
+			out.append("Map(size=").append(map.size()).append(')');
+		} else if (value instanceof Record record) {
+			appendRecord(out, record);
+		} else if (value.getClass().isArray()) {
+			out.append(value.getClass().getComponentType().getSimpleName())
+					.append('[').append(Array.getLength(value)).append(']');
+		} else {
+			try {
+				out.append(value);
+			} catch (RuntimeException ex) {
+				out.append(value.getClass().getSimpleName());
+			}
+		}
+	}
+
+	private void appendRecord(StringBuilder out, Record record) {
+		RecordComponent[] components = RECORD_COMPONENTS.get(record.getClass());
+		out.append(record.getClass().getSimpleName()).append('[');
+		for (int i = 0; i < components.length && out.length() < maxLength; i++) {
+			if (i > 0) {
+				out.append(", ");
+			}
+			out.append(components[i].getName()).append('=');
+			Object component;
+			try {
+				component = components[i].getAccessor().invoke(record);
+			} catch (ReflectiveOperationException | RuntimeException ex) {
+				component = "?";
+			}
+			append(out, component);
+		}
+		out.append(']');
+	}
+
+	private void appendElements(StringBuilder out, Iterator<?> elements, int size) {
+		out.append('[');
+		int rendered = 0;
+		while (elements.hasNext() && rendered < maxElements && out.length() < maxLength) {
+			if (rendered > 0) {
+				out.append(", ");
+			}
+			append(out, elements.next());
+			rendered++;
+		}
+		if (size > rendered) {
+			out.append(rendered > 0 ? ", " : "").append("...(+").append(size - rendered).append(')');
+		}
+		out.append(']');
+	}
+}
@@ -0,0 +1,45 @@
+package com.ksr930.nhnkcp.aop;
+
+import com.ksr930.nhnkcp.config.StockProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OptimisticLockRetryAspect {
+	private static final Logger log = LoggerFactory.getLogger(OptimisticLockRetryAspect.class);
+
+	private final StockProperties.Optimistic optimistic;
+
+	public OptimisticLockRetryAspect(StockProperties stockProperties) {
+		this.optimistic = stockProperties.optimistic();
+	}
+
+	@Around("@annotation(com.ksr930.nhnkcp.aop.RetryOnOptimisticLock)")
+	public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return joinPoint.proceed();
+		}
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return joinPoint.proceed();
+			} catch (OptimisticLockingFailureException ex) {
+				if (attempt >= optimistic.maxAttempts()) {
+					throw ex;
+				}
+				log.debug("[Retry] {} attempt={} cause={}",
+						joinPoint.getSignature().toShortString(), attempt, ex.getMessage());
+				Thread.sleep(optimistic.backoff(attempt));
+			}
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.ksr930.nhnkcp.aop;
+
+import com.ksr930.nhnkcp.config.RequestLoggingProperties;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 로그 샘플링 결정. 엔드포인트 별 확률과 전체 추적 대상은 실행 중에 바꿀 수 있다(actuator requestlogging).
+ */
+@Component
+public class RequestLogSampler {
+	private final RequestLoggingProperties properties;
+	private final Map<String, Double> sampleRates;
+	private final Set<String> tracedEndpoints = ConcurrentHashMap.newKeySet();
+	private volatile double defaultSampleRate;
+	private volatile boolean traceHeaderEnabled;
+
+	public RequestLogSampler(RequestLoggingProperties properties) {
+		this.properties = properties;
+		this.sampleRates = new ConcurrentHashMap<>(properties.sampleRates());
+		this.defaultSampleRate = properties.defaultSampleRate();
+		this.traceHeaderEnabled = properties.traceHeaderEnabled();
+	}
+
+	LogMode decide(String endpoint, boolean traceRequested) {
+		if (!properties.enabled()) {
+			return LogMode.OFF;
+		}
+		if ((traceRequested && traceHeaderEnabled) || tracedEndpoints.contains(endpoint)) {
+			return LogMode.TRACE;
+		}
+		double rate = sampleRates.getOrDefault(endpoint, defaultSampleRate);
+		if (rate <= 0) {
+			return LogMode.OFF;
+		}
+		return rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate ? LogMode.SAMPLED : LogMode.OFF;
+	}
+
+	public double defaultSampleRate() {
+		return defaultSampleRate;
+	}
+
+	public Map<String, Double> sampleRates() {
+		return Map.copyOf(sampleRates);
+	}
+
+	public Set<String> tracedEndpoints() {
+		return Set.copyOf(tracedEndpoints);
+	}
+
+	public boolean traceHeaderEnabled() {
+		return traceHeaderEnabled;
+	}
+
+	public void setTraceHeaderEnabled(boolean enabled) {
+		this.traceHeaderEnabled = enabled;
+	}
+
+	public void setDefaultSampleRate(double rate) {
+		this.defaultSampleRate = rate;
+	}
+
+	/**
+	 * @param rate null 이면 엔드포인트 설정을 지워 기본 확률을 따른다.
+	 */
+	public void setSampleRate(String endpoint, Double rate) {
+		if (rate == null) {
+			sampleRates.remove(endpoint);
+		} else {
+			sampleRates.put(endpoint, rate);
+		}
+	}
+
+	public void setTraced(String endpoint, boolean traced) {
+		if (traced) {
+			tracedEndpoints.add(endpoint);
+		} else {
+			tracedEndpoints.remove(endpoint);
+		}
+	}
+
+	enum LogMode {
+		// 기록하지 않음
+		OFF,
+		// 컨트롤러 호출만 한 줄로 기록
+		SAMPLED,
+		// 컨트롤러와 그 안의 서비스 호출까지 모두 기록
+		TRACE
+	}
+}
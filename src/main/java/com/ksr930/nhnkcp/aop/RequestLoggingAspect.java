@@ -1,70 +1,113 @@
 package com.ksr930.nhnkcp.aop;
 
+import com.ksr930.nhnkcp.aop.RequestLogSampler.LogMode;
+import com.ksr930.nhnkcp.config.RequestLoggingProperties;
+import com.ksr930.nhnkcp.monitoring.timing.RequestTimings;
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.Arrays;
-import java.util.stream.Collectors;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.HandlerMapping;
 
+/**
+ * 컨트롤러 진입 시 요청 단위로 기록 여부를 정한다. 기록하지 않는 요청은 인자/결과를 렌더링하지 않는다.
+ * 샘플링된 요청은 컨트롤러 호출을 한 줄로, 추적 요청은 그 안의 서비스 호출까지 기록한다.
+ */
 @Aspect
 @Component
 public class RequestLoggingAspect {
 	private static final Logger log = LoggerFactory.getLogger(RequestLoggingAspect.class);
+	private static final String MODE_ATTRIBUTE = RequestLoggingAspect.class.getName() + ".mode";
+
+	private final RequestLogSampler sampler;
+	private final LogValueRenderer renderer;
+	private final String traceHeader;
+
+	public RequestLoggingAspect(RequestLogSampler sampler, RequestLoggingProperties properties) {
+		this.sampler = sampler;
+		this.renderer = new LogValueRenderer(properties.maxValueLength(), properties.maxElements());
+		this.traceHeader = properties.traceHeader();
+	}
 
 	@Around("within(@org.springframework.web.bind.annotation.RestController *)")
 	public Object logController(ProceedingJoinPoint joinPoint) throws Throwable {
-		String signature = joinPoint.getSignature().toShortString();
-		String args = formatArgs(joinPoint.getArgs());
-		String requestInfo = resolveRequestInfo();
-		log.info("[Controller] {} {} args={}", requestInfo, signature, args);
-		Object result = joinPoint.proceed();
-		log.info("[Controller] {} {} result={}", requestInfo, signature, safeToString(result));
-		return result;
+		HttpServletRequest request = currentRequest();
+		if (request == null || !log.isInfoEnabled()) {
+			return joinPoint.proceed();
+		}
+		String endpoint = request.getMethod() + " " + mappingPattern(request);
+		boolean traceRequested = traceHeader != null && !traceHeader.isEmpty()
+				&& "true".equalsIgnoreCase(request.getHeader(traceHeader));
+		LogMode mode = sampler.decide(endpoint, traceRequested);
+		if (mode == LogMode.OFF) {
+			return joinPoint.proceed();
+		}
+
+		request.setAttribute(MODE_ATTRIBUTE, mode);
+		long startedAt = System.nanoTime();
+		Object result = null;
+		Throwable failure = null;
+		try {
+			result = joinPoint.proceed();
+			return result;
+		} catch (Throwable ex) {
+			failure = ex;
+			throw ex;
+		} finally {
+			long finishedAt = System.nanoTime();
+			long elapsedMicros = (finishedAt - startedAt) / 1_000;
+			String signature = joinPoint.getSignature().toShortString();
+			if (failure == null) {
+				log.info("[Controller] {} {} {}us args={} result={}", endpoint, signature, elapsedMicros,
+						renderer.renderArgs(joinPoint.getArgs()), renderer.render(result));
+			} else {
+				log.info("[Controller] {} {} {}us args={} failed={}", endpoint, signature, elapsedMicros,
+						renderer.renderArgs(joinPoint.getArgs()), failure.toString());
+			}
+			// Server-Timing 이 기록 중이면 렌더링과 로그 기록 비용을 따로 보여준다.
+			RequestTimings timings = RequestTimings.current();
+			if (timings != null) {
+				timings.add(RequestTimings.Layer.LOGGING, System.nanoTime() - finishedAt);
+			}
+		}
 	}
 
 	@Around("within(@org.springframework.stereotype.Service *)")
 	public Object logService(ProceedingJoinPoint joinPoint) throws Throwable {
+		if (!log.isInfoEnabled() || currentMode() != LogMode.TRACE) {
+			return joinPoint.proceed();
+		}
 		String signature = joinPoint.getSignature().toShortString();
-		String args = formatArgs(joinPoint.getArgs());
-		log.info("[Service] {} args={}", signature, args);
+		log.info("[Service] {} args={}", signature, renderer.renderArgs(joinPoint.getArgs()));
+		long startedAt = System.nanoTime();
 		Object result = joinPoint.proceed();
-		log.info("[Service] {} result={}", signature, safeToString(result));
+		log.info("[Service] {} {}us result={}", signature, (System.nanoTime() - startedAt) / 1_000, renderer.render(result));
 		return result;
 	}
 
-	private String resolveRequestInfo() {
+	private LogMode currentMode() {
 		RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
-		if (!(attrs instanceof ServletRequestAttributes servletAttrs)) {
-			return "[no-request]";
+		if (attrs == null) {
+			return LogMode.OFF;
 		}
-		HttpServletRequest request = servletAttrs.getRequest();
-        return request.getMethod() + " " + request.getRequestURI();
+		Object mode = attrs.getAttribute(MODE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		return mode instanceof LogMode logMode ? logMode : LogMode.OFF;
 	}
 
-	private String formatArgs(Object[] args) {
-		if (args == null || args.length == 0) {
-			return "[]";
-		}
-		return Arrays.stream(args)
-				.map(this::safeToString)
-				.collect(Collectors.joining(", ", "[", "]"));
+	private HttpServletRequest currentRequest() {
+		RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+		return attrs instanceof ServletRequestAttributes servletAttrs ? servletAttrs.getRequest() : null;
 	}
 
-	private String safeToString(Object value) {
-		if (value == null) {
-			return "null";
-		}
-		try {
-			return value.toString();
-		} catch (RuntimeException ex) {
-			return value.getClass().getSimpleName();
-		}
+	// 경로 변수마다 다른 키가 생기지 않도록 매핑 패턴(/api/orders/{id})을 쓴다.
+	private String mappingPattern(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern != null ? pattern.toString() : request.getRequestURI();
 	}
 }
@@ -0,0 +1,14 @@
+package com.ksr930.nhnkcp.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 락 충돌 시 트랜잭션을 새로 시작해 재시도한다. 이미 진행 중인 트랜잭션 안에서 호출되면 재시도하지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnOptimisticLock {
+}
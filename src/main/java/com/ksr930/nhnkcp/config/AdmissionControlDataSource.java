@@ -0,0 +1,138 @@
+package com.ksr930.nhnkcp.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션 풀 앞의 허가(permit) 게이트. 커넥션을 빌리기 전에 공정 세마포어에서 허가를 받고, 커넥션을 닫을 때 돌려준다.
+ *
+ * <p>가상 스레드 모드에서는 요청 수만큼 스레드가 생기므로, 게이트가 없으면 수천 개의 요청이 풀 대기열에 몰린다.
+ * 세마포어 대기는 캐리어 스레드를 고정(pinning)하지 않고 도착 순서대로 풀리며, 정해진 시간 안에 허가를 못 받으면
+ * 풀을 더 기다리지 않고 바로 실패한다.
+ */
+public class AdmissionControlDataSource extends DelegatingDataSource {
+	private final Semaphore permits;
+	private final int maxPermits;
+	private final long acquireTimeoutNanos;
+	private final LongAdder permitWaits = new LongAdder();
+	private final LongAdder permitWaitNanos = new LongAdder();
+	private final LongAccumulator maxPermitWaitNanos = new LongAccumulator(Math::max, 0);
+
+	public AdmissionControlDataSource(DataSource target, int maxPermits, Duration acquireTimeout) {
+		super(target);
+		this.permits = new Semaphore(maxPermits, true);
+		this.maxPermits = maxPermits;
+		this.acquireTimeoutNanos = acquireTimeout.toNanos();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		acquire();
+		try {
+			return releasing(super.getConnection());
+		} catch (SQLException | RuntimeException ex) {
+			permits.release();
+			throw ex;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		acquire();
+		try {
+			return releasing(super.getConnection(username, password));
+		} catch (SQLException | RuntimeException ex) {
+			permits.release();
+			throw ex;
+		}
+	}
+
+	public int maxPermits() {
+		return maxPermits;
+	}
+
+	public int availablePermits() {
+		return permits.availablePermits();
+	}
+
+	public int waitingRequests() {
+		return permits.getQueueLength();
+	}
+
+	// 허가를 기다린 횟수와 누적/최대 대기 시간(시간 초과 포함, 기동 이후 누적)
+	public long permitWaits() {
+		return permitWaits.sum();
+	}
+
+	public long permitWaitNanos() {
+		return permitWaitNanos.sum();
+	}
+
+	public long maxPermitWaitNanos() {
+		return maxPermitWaitNanos.get();
+	}
+
+	private void acquire() throws SQLException {
+		long startedAt = System.nanoTime();
+		try {
+			if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+				throw new PermitTimeoutException("Timed out after "
+						+ TimeUnit.NANOSECONDS.toMillis(acquireTimeoutNanos) + "ms waiting for a database permit", null);
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new PermitTimeoutException("Interrupted while waiting for a database permit", ex);
+		} finally {
+			long waited = System.nanoTime() - startedAt;
+			permitWaits.increment();
+			permitWaitNanos.add(waited);
+			maxPermitWaitNanos.accumulate(waited);
+		}
+	}
+
+	private Connection releasing(Connection connection) {
+		AtomicBoolean released = new AtomicBoolean();
+		InvocationHandler handler = (proxy, method, args) -> {
+			if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+				try {
+					return invoke(connection, method, args);
+				} finally {
+					permits.release();
+				}
+			}
+			return invoke(connection, method, args);
+		};
+		return (Connection) Proxy.newProxyInstance(
+				Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, handler);
+	}
+
+	/**
+	 * 허가를 기다리다 실패했다. 커넥션 풀이나 DB 자체의 장애와 구분하기 위한 타입이다.
+	 */
+	public static class PermitTimeoutException extends SQLTransientConnectionException {
+		PermitTimeoutException(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+
+	private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(connection, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+}
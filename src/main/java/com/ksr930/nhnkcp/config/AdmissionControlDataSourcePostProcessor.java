@@ -0,0 +1,46 @@
+package com.ksr930.nhnkcp.config;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 모드({@code spring.threads.virtual.enabled})에서만 애플리케이션 DataSource 빈을 {@link AdmissionControlDataSource} 로 감싼다.
+ * 플랫폼 스레드 모드에서는 Tomcat 스레드 수가 이미 동시 요청을 제한하므로 게이트를 두지 않는다.
+ * BeanPostProcessor 는 설정 빈보다 먼저 만들어지므로 프로퍼티는 Environment 에서 직접 바인딩한다.
+ */
+@Component
+public class AdmissionControlDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware {
+	private static final int DEFAULT_HIKARI_POOL_SIZE = 10;
+
+	private Environment environment;
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlDataSource
+				|| !"dataSource".equals(beanName)) {
+			return bean;
+		}
+		Binder binder = Binder.get(environment);
+		if (!binder.bind("spring.threads.virtual.enabled", Boolean.class).orElse(false)) {
+			return bean;
+		}
+		DataSourceAdmissionProperties properties = binder
+				.bindOrCreate("nhnkcp.datasource.admission", DataSourceAdmissionProperties.class);
+		if (!properties.enabled()) {
+			return bean;
+		}
+		int permits = properties.permits() > 0
+				? properties.permits()
+				: binder.bind("spring.datasource.hikari.maximum-pool-size", Integer.class).orElse(DEFAULT_HIKARI_POOL_SIZE);
+		return new AdmissionControlDataSource(dataSource, permits, properties.acquireTimeout());
+	}
+}
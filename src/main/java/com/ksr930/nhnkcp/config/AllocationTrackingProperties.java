@@ -0,0 +1,13 @@
+package com.ksr930.nhnkcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled 요청/서비스 메서드 별 할당 바이트 기록 여부. JVM 이 스레드 할당 카운터를 지원하지 않으면 무시된다.
+ */
+@ConfigurationProperties(prefix = "nhnkcp.allocation")
+public record AllocationTrackingProperties(
+		@DefaultValue("true") boolean enabled
+) {
+}
@@ -0,0 +1,39 @@
+package com.ksr930.nhnkcp.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+	public static final String PRODUCT = "product";
+	public static final String PRODUCT_PAGES = "productPages";
+	public static final String PRODUCT_NAMES = "productNames";
+
+	// Caffeine 은 W-TinyLFU 로 크기 제한을 넘는 항목을 내보내며, recordStats 로 hit/miss/eviction 이 cache.* 메트릭에 노출된다.
+	@Bean
+	public CacheManager cacheManager(ProductCacheProperties properties) {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.registerCustomCache(PRODUCT, Caffeine.newBuilder()
+				.maximumSize(properties.maximumSize())
+				.expireAfterWrite(properties.effectiveTtl())
+				.recordStats()
+				.build());
+		cacheManager.registerCustomCache(PRODUCT_PAGES, Caffeine.newBuilder()
+				.maximumSize(properties.pageMaximumSize())
+				.expireAfterWrite(properties.effectiveTtl())
+				.recordStats()
+				.build());
+		// 상품명은 재고와 무관하므로 재고 허용 지연으로 줄인 TTL 이 아니라 기본 TTL 을 쓴다.
+		cacheManager.registerCustomCache(PRODUCT_NAMES, Caffeine.newBuilder()
+				.maximumSize(properties.maximumSize())
+				.expireAfterWrite(properties.ttl())
+				.recordStats()
+				.build());
+		return cacheManager;
+	}
+}
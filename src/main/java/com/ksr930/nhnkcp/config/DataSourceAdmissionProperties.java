@@ -0,0 +1,17 @@
+package com.ksr930.nhnkcp.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param permits 동시에 커넥션을 빌릴 수 있는 요청 수. 0 이면 Hikari maximum-pool-size 를 쓴다.
+ * @param acquireTimeout 허가를 기다리는 최대 시간. 넘기면 503 으로 응답한다.
+ */
+@ConfigurationProperties(prefix = "nhnkcp.datasource.admission")
+public record DataSourceAdmissionProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("0") int permits,
+		@DefaultValue("3s") Duration acquireTimeout
+) {
+}
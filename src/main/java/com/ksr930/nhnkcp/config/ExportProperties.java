@@ -0,0 +1,15 @@
+package com.ksr930.nhnkcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param chunkSize 한 번의 조회(커넥션 대여)로 읽는 주문 수
+ */
+@ConfigurationProperties(prefix = "nhnkcp.export")
+public record ExportProperties(
+		@DefaultValue("500") int chunkSize,
+		@DefaultValue("1000") int fetchSize,
+		@DefaultValue("65536") int bufferSize
+) {
+}
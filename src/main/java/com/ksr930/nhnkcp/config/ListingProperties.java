@@ -0,0 +1,12 @@
+package com.ksr930.nhnkcp.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "nhnkcp.listing")
+public record ListingProperties(
+		@DefaultValue("30s") Duration countCacheTtl,
+		@DefaultValue("1024") int countCacheMaxEntries
+) {
+}
@@ -0,0 +1,14 @@
+package com.ksr930.nhnkcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param capacity 통계를 유지하는 상품 수(top-K 의 K). 메모리는 이 값에 비례하고 상품 수와 무관하다.
+ */
+@ConfigurationProperties(prefix = "nhnkcp.lock-profiler")
+public record LockProfilerProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("128") int capacity
+) {
+}
@@ -0,0 +1,28 @@
+package com.ksr930.nhnkcp.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param stockStaleness 0 이면 재고가 바뀔 때마다 캐시를 무효화한다. 0 보다 크면 재고 변경 시 무효화하지 않고,
+ *                       항목 TTL 을 이 값 이하로 줄여 그 시간 안에서만 오래된 재고를 허용한다.
+ */
+@ConfigurationProperties(prefix = "nhnkcp.cache.product")
+public record ProductCacheProperties(
+		@DefaultValue("10000") long maximumSize,
+		@DefaultValue("1000") long pageMaximumSize,
+		@DefaultValue("60s") Duration ttl,
+		@DefaultValue("0s") Duration stockStaleness
+) {
+	public boolean evictOnStockChange() {
+		return stockStaleness.isZero();
+	}
+
+	public Duration effectiveTtl() {
+		if (evictOnStockChange() || ttl.compareTo(stockStaleness) <= 0) {
+			return ttl;
+		}
+		return stockStaleness;
+	}
+}
@@ -0,0 +1,29 @@
+package com.ksr930.nhnkcp.config;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param defaultSampleRate 요청을 로그로 남길 확률(0~1)
+ * @param sampleRates "GET /api/orders/{id}" 처럼 HTTP 메서드 + 매핑 패턴 별 확률
+ * @param maxValueLength 인자/결과 하나를 렌더링할 최대 길이
+ * @param maxElements 컬렉션/페이지에서 렌더링할 최대 원소 수
+ * @param traceHeader 값이 true 이면 해당 요청을 서비스 호출까지 전부 기록하는 헤더. 빈 값이면 헤더를 무시한다.
+ * @param traceHeaderEnabled traceHeader 를 따를지 여부. 아무 클라이언트나 전체 추적을 켤 수 있으므로 기본은 꺼 두고,
+ *                           필요할 때 actuator requestlogging 으로 켠다.
+ */
+@ConfigurationProperties(prefix = "nhnkcp.logging.request")
+public record RequestLoggingProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("0.01") double defaultSampleRate,
+		Map<String, Double> sampleRates,
+		@DefaultValue("256") int maxValueLength,
+		@DefaultValue("3") int maxElements,
+		@DefaultValue("X-Trace-Request") String traceHeader,
+		@DefaultValue("false") boolean traceHeaderEnabled
+) {
+	public RequestLoggingProperties {
+		sampleRates = sampleRates == null ? Map.of() : Map.copyOf(sampleRates);
+	}
+}
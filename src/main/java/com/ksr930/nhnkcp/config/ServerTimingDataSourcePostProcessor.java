@@ -0,0 +1,34 @@
+package com.ksr930.nhnkcp.config;
+
+import com.ksr930.nhnkcp.monitoring.timing.SqlTimingDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Server-Timing 이 켜져 있으면 애플리케이션 DataSource 빈을 {@link SqlTimingDataSource} 로 감싼다.
+ */
+@Component
+public class ServerTimingDataSourcePostProcessor implements BeanPostProcessor, EnvironmentAware {
+	private Environment environment;
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (!(bean instanceof DataSource dataSource) || bean instanceof SqlTimingDataSource
+				|| !"dataSource".equals(beanName)) {
+			return bean;
+		}
+		boolean enabled = Binder.get(environment)
+				.bind("nhnkcp.server-timing.enabled", Boolean.class)
+				.orElse(true);
+		return enabled ? new SqlTimingDataSource(dataSource) : bean;
+	}
+}
@@ -0,0 +1,22 @@
+package com.ksr930.nhnkcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param sampleRate Server-Timing 을 기록할 요청 비율(0~1)
+ * @param forceHeader 값이 true 이면 해당 요청을 항상 기록하고, debug 이면 SQL 목록을 응답 트레일러로도 보낸다.
+ * @param forceEnabled 강제 헤더를 따를지 여부. 아무 클라이언트나 기록을 켤 수 있으므로 기본은 꺼 둔다.
+ * @param debugEnabled debug 값을 따를지 여부. SQL 문이 응답에 나가므로 기본은 꺼 두고, 꺼져 있으면 debug 는 true 로 취급한다.
+ * @param debugMaxStatements 디버그 트레일러에 담을 최대 SQL 수
+ */
+@ConfigurationProperties(prefix = "nhnkcp.server-timing")
+public record ServerTimingProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("0.01") double sampleRate,
+		@DefaultValue("X-Server-Timing") String forceHeader,
+		@DefaultValue("false") boolean forceEnabled,
+		@DefaultValue("false") boolean debugEnabled,
+		@DefaultValue("50") int debugMaxStatements
+) {
+}
@@ -0,0 +1,51 @@
+package com.ksr930.nhnkcp.config;
+
+import com.ksr930.nhnkcp.service.stock.StockMode;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "nhnkcp.stock")
+public record StockProperties(
+		@DefaultValue("conditional-update") StockMode mode,
+		@DefaultValue Striping striping,
+		@DefaultValue Optimistic optimistic,
+		@DefaultValue Combining combining
+) {
+	public record Striping(
+			@DefaultValue("4") int defaultStripes,
+			Map<Long, Integer> stripes
+	) {
+		public Striping {
+			stripes = stripes == null ? Map.of() : Map.copyOf(stripes);
+		}
+
+		public int stripesFor(Long productId) {
+			return Math.max(1, stripes.getOrDefault(productId, defaultStripes));
+		}
+	}
+
+	public record Optimistic(
+			@DefaultValue("5") int maxAttempts,
+			@DefaultValue("5ms") Duration initialBackoff,
+			@DefaultValue("100ms") Duration maxBackoff
+	) {
+		// full jitter: [0, min(maxBackoff, initialBackoff * 2^(attempt-1))] 구간에서 무작위로 대기한다.
+		public Duration backoff(int attempt) {
+			long ceiling = Math.min(maxBackoff.toNanos(), initialBackoff.toNanos() << Math.min(attempt - 1, 20));
+			return Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+		}
+	}
+
+	/**
+	 * @param reservationTimeout 이보다 오래 남은 예약은 호출 트랜잭션이 커밋되지 않은 것으로 보고 재고로 되돌린다.
+	 */
+	public record Combining(
+			@DefaultValue("256") int maxBatchSize,
+			@DefaultValue("2") int poolSize,
+			@DefaultValue("60s") Duration reservationTimeout
+	) {
+	}
+}
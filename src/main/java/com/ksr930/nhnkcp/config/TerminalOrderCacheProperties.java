@@ -0,0 +1,15 @@
+package com.ksr930.nhnkcp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "nhnkcp.cache.terminal-order")
+public record TerminalOrderCacheProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("10000") long heapMaximumSize,
+		@DefaultValue("64MB") DataSize offHeapSize,
+		@DefaultValue("8MB") DataSize segmentSize,
+		@DefaultValue("64") int epochStripes
+) {
+}
@@ -0,0 +1,17 @@
+package com.ksr930.nhnkcp.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param slowThreshold 상품 행 락을 쥔 채 이보다 오래 열린 트랜잭션을 경고한다. DB 락 대기 한도(3s)보다 충분히 짧게 둔다.
+ * @param recentCapacity 덤프에 남길 최근 느린 트랜잭션 수
+ */
+@ConfigurationProperties(prefix = "nhnkcp.transaction-watchdog")
+public record TransactionWatchdogProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("500ms") Duration slowThreshold,
+		@DefaultValue("50") int recentCapacity
+) {
+}
@@ -0,0 +1,14 @@
+package com.ksr930.nhnkcp.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param pinnedThreshold 이보다 오래 캐리어 스레드를 고정한 가상 스레드만 보고한다.
+ */
+@ConfigurationProperties(prefix = "nhnkcp.virtual-threads")
+public record VirtualThreadProperties(
+		@DefaultValue("20ms") Duration pinnedThreshold
+) {
+}
@@ -2,15 +2,23 @@ package com.ksr930.nhnkcp.controller;
 
 import com.ksr930.nhnkcp.domain.order.OrderStatus;
 import com.ksr930.nhnkcp.dto.ApiResponse;
+import com.ksr930.nhnkcp.dto.CountMode;
+import com.ksr930.nhnkcp.dto.CursorPage;
+import com.ksr930.nhnkcp.dto.order.ExportFormat;
 import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderExportFilter;
+import com.ksr930.nhnkcp.dto.order.OrderFields;
 import com.ksr930.nhnkcp.dto.order.OrderResponse;
 import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
+import com.ksr930.nhnkcp.service.OrderExportService;
 import com.ksr930.nhnkcp.service.OrderService;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,14 +28,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
 	private final OrderService orderService;
+	private final OrderExportService orderExportService;
 
-	public OrderController(OrderService orderService) {
+	public OrderController(OrderService orderService, OrderExportService orderExportService) {
 		this.orderService = orderService;
+		this.orderExportService = orderExportService;
 	}
 
 	@PostMapping
@@ -45,25 +56,71 @@ public class OrderController {
 	}
 
 	@GetMapping("/{id}")
-	public ResponseEntity<ApiResponse<OrderResponse>> get(@PathVariable Long id) {
-		return ResponseEntity.ok(ApiResponse.success(orderService.get(id)));
+	public ResponseEntity<ApiResponse<OrderResponse>> get(
+			@PathVariable Long id,
+			@RequestParam(defaultValue = "FULL") OrderFields fields
+	) {
+		OrderResponse order = orderService.get(id, fields);
+		return ResponseEntity.ok(ApiResponse.success(order));
 	}
 
+	/**
+	 * count=EXACT(기본) 는 기존 Page 응답, NONE 은 COUNT 없는 Slice, CACHED 는 캐시된 건수를 쓰는 Page 를 반환한다.
+	 * fields=SUMMARY 이면 주문 항목과 상품 조회를 생략한다.
+	 */
 	@GetMapping
-	public ResponseEntity<ApiResponse<Page<OrderResponse>>> list(
+	public ResponseEntity<ApiResponse<Slice<OrderResponse>>> list(
 			@RequestParam(required = false) OrderStatus status,
 			@RequestParam(required = false)
 			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
 			@RequestParam(required = false)
 			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+			@RequestParam(defaultValue = "EXACT") CountMode count,
+			@RequestParam(defaultValue = "FULL") OrderFields fields,
 			Pageable pageable
 	) {
+		Slice<OrderResponse> orders;
 		if (status != null) {
-			return ResponseEntity.ok(ApiResponse.success(orderService.listByStatus(status, pageable)));
-		}
-		if (start != null && end != null) {
-			return ResponseEntity.ok(ApiResponse.success(orderService.listByPeriod(start, end, pageable)));
+			orders = orderService.listByStatus(status, pageable, count, fields);
+		} else if (start != null && end != null) {
+			orders = orderService.listByPeriod(start, end, pageable, count, fields);
+		} else {
+			orders = orderService.list(pageable, count, fields);
 		}
-		return ResponseEntity.ok(ApiResponse.success(orderService.list(pageable)));
+		return ResponseEntity.ok(ApiResponse.success(orders));
+	}
+
+	@GetMapping("/scroll")
+	public ResponseEntity<ApiResponse<CursorPage<OrderResponse>>> scroll(
+			@RequestParam(required = false) OrderStatus status,
+			@RequestParam(required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+			@RequestParam(required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size
+	) {
+		return ResponseEntity.ok(ApiResponse.success(orderService.scroll(status, start, end, cursor, size)));
+	}
+
+	/**
+	 * 조건에 맞는 주문 전체를 페이지 없이 응답 스트림으로 바로 내보낸다. 응답이 시작된 뒤의 오류는 연결 종료로만 전달된다.
+	 */
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> export(
+			@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+			@RequestParam(required = false) OrderStatus status,
+			@RequestParam(required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+			@RequestParam(required = false)
+			@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end
+	) {
+		OrderExportFilter filter = new OrderExportFilter(status, start, end);
+		String filename = "orders." + format.name().toLowerCase();
+		return ResponseEntity.ok()
+				.contentType(orderExportService.mediaType(format))
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						ContentDisposition.attachment().filename(filename).build().toString())
+				.body(out -> orderExportService.export(format, filter, out));
 	}
 }
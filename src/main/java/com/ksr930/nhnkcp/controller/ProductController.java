@@ -2,12 +2,13 @@ package com.ksr930.nhnkcp.controller;
 
 import com.ksr930.nhnkcp.domain.product.Category;
 import com.ksr930.nhnkcp.dto.ApiResponse;
+import com.ksr930.nhnkcp.dto.CountMode;
 import com.ksr930.nhnkcp.dto.product.ProductRequest;
 import com.ksr930.nhnkcp.dto.product.ProductResponse;
 import com.ksr930.nhnkcp.service.ProductService;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -47,13 +48,14 @@ public class ProductController {
 	}
 
 	@GetMapping
-	public ResponseEntity<ApiResponse<Page<ProductResponse>>> list(
+	public ResponseEntity<ApiResponse<Slice<ProductResponse>>> list(
 			@RequestParam(required = false) Category category,
+			@RequestParam(defaultValue = "EXACT") CountMode count,
 			Pageable pageable
 	) {
-		if (category == null) {
-			return ResponseEntity.ok(ApiResponse.success(productService.list(pageable)));
-		}
-		return ResponseEntity.ok(ApiResponse.success(productService.listByCategory(category, pageable)));
+		Slice<ProductResponse> products = category == null
+				? productService.list(pageable, count)
+				: productService.listByCategory(category, pageable, count);
+		return ResponseEntity.ok(ApiResponse.success(products));
 	}
 }
@@ -12,6 +12,7 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.Getter;
@@ -38,8 +39,9 @@ public class Order {
 	@Column(nullable = false)
 	private OrderStatus status = OrderStatus.PENDING;
 
+	// 키셋 커서가 DB 에 저장된 값과 같아지도록 컬럼 정밀도(마이크로초)에 맞춘다.
 	@Column(nullable = false, updatable = false)
-	private LocalDateTime createdAt = LocalDateTime.now();
+	private LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
 
 	@Column(nullable = false)
 	private LocalDateTime updatedAt = LocalDateTime.now();
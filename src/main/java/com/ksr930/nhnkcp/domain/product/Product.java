@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -34,4 +35,7 @@ public class Product {
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false)
 	private Category category;
+
+	@Version
+	private Long version;
 }
@@ -0,0 +1,37 @@
+package com.ksr930.nhnkcp.domain.product;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(
+		name = "product_stock_slots",
+		uniqueConstraints = {
+				@UniqueConstraint(name = "uk_product_stock_slots_product_slot", columnNames = {"product_id", "slot"})
+		}
+)
+public class ProductStockSlot {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false)
+	private Long productId;
+
+	@Column(nullable = false)
+	private int slot;
+
+	@Column(nullable = false)
+	private int quantity;
+}
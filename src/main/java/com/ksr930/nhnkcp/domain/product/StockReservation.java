@@ -0,0 +1,40 @@
+package com.ksr930.nhnkcp.domain.product;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 요청 합치기 모드에서 리더가 먼저 커밋한 차감분. 호출한 트랜잭션이 커밋되면서 함께 지워지므로,
+ * 남아 있는 행은 호출 트랜잭션이 커밋되지 않았다는 뜻이고 재고로 되돌려야 한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(
+		name = "stock_reservations",
+		indexes = {
+				@Index(name = "idx_stock_reservations_created_at", columnList = "created_at")
+		}
+)
+public class StockReservation {
+	@Id
+	@Column(length = 36)
+	private String id;
+
+	@Column(nullable = false)
+	private Long productId;
+
+	@Column(nullable = false)
+	private int quantity;
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,13 @@
+package com.ksr930.nhnkcp.dto;
+
+/**
+ * 목록 조회 시 전체 건수 계산 방식.
+ */
+public enum CountMode {
+	// 매 요청 COUNT 쿼리 실행
+	EXACT,
+	// COUNT 없이 다음 페이지 여부만 반환 (Slice)
+	NONE,
+	// TTL 동안 캐시한 COUNT 값을 사용 (근사값)
+	CACHED
+}
@@ -0,0 +1,11 @@
+package com.ksr930.nhnkcp.dto;
+
+import java.util.List;
+
+public record CursorPage<T>(
+		List<T> content,
+		int size,
+		boolean hasNext,
+		String nextCursor
+) {
+}
@@ -0,0 +1,11 @@
+package com.ksr930.nhnkcp.dto.order;
+
+/**
+ * 주문 내보내기 응답 형식.
+ */
+public enum ExportFormat {
+	// 주문 한 건을 한 줄의 JSON(OrderResponse 와 같은 구조)으로 기록
+	NDJSON,
+	// 주문 항목 한 건을 한 줄로 기록 (항목 없는 주문은 상품 컬럼이 빈 한 줄)
+	CSV
+}
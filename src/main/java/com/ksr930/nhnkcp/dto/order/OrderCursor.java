@@ -0,0 +1,39 @@
+package com.ksr930.nhnkcp.dto.order;
+
+import com.ksr930.nhnkcp.exception.ApiException;
+import com.ksr930.nhnkcp.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 목록 커서. (createdAt, id) 를 클라이언트가 해석하지 않도록 Base64 로 감싼다.
+ */
+public record OrderCursor(
+		LocalDateTime createdAt,
+		Long id
+) {
+	private static final String DELIMITER = "|";
+
+	public String encode() {
+		String raw = createdAt + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static OrderCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int delimiter = raw.indexOf(DELIMITER);
+			if (delimiter < 0) {
+				throw new ApiException(ErrorCode.INVALID_REQUEST);
+			}
+			return new OrderCursor(
+					LocalDateTime.parse(raw.substring(0, delimiter)),
+					Long.parseLong(raw.substring(delimiter + 1))
+			);
+		} catch (IllegalArgumentException | DateTimeParseException ex) {
+			throw new ApiException(ErrorCode.INVALID_REQUEST);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.ksr930.nhnkcp.dto.order;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.exception.ApiException;
+import com.ksr930.nhnkcp.exception.ErrorCode;
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 조건. 모든 값은 생략할 수 있고, 기간은 한쪽 경계만 줄 수도 있다.
+ */
+public record OrderExportFilter(
+		OrderStatus status,
+		LocalDateTime start,
+		LocalDateTime end
+) {
+	public OrderExportFilter {
+		if (start != null && end != null && start.isAfter(end)) {
+			throw new ApiException(ErrorCode.INVALID_REQUEST);
+		}
+	}
+}
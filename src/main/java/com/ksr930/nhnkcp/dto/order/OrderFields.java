@@ -0,0 +1,11 @@
+package com.ksr930.nhnkcp.dto.order;
+
+/**
+ * 주문 응답에 포함할 필드 범위.
+ */
+public enum OrderFields {
+	// 주문 항목과 상품 정보까지 포함
+	FULL,
+	// id, 상태, 생성/수정 시각만 포함 (order_items, products 조회 생략)
+	SUMMARY
+}
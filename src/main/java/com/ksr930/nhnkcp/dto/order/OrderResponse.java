@@ -1,5 +1,6 @@
 package com.ksr930.nhnkcp.dto.order;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.ksr930.nhnkcp.domain.order.OrderStatus;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,6 +10,8 @@ public record OrderResponse(
 		OrderStatus status,
 		LocalDateTime createdAt,
 		LocalDateTime updatedAt,
+		// fields=SUMMARY 조회에서는 null 이며 응답에서 생략된다.
+		@JsonInclude(JsonInclude.Include.NON_NULL)
 		List<OrderItemResponse> items
 ) {
 }
@@ -7,7 +7,9 @@ public enum ErrorCode {
 	INVALID_REQUEST(HttpStatus.BAD_REQUEST, "INVALID_REQUEST", "요청 값이 올바르지 않습니다."),
 	OUT_OF_STOCK(HttpStatus.CONFLICT, "OUT_OF_STOCK", "재고가 부족합니다."),
 	INVALID_STATUS_CHANGE(HttpStatus.CONFLICT, "INVALID_STATUS_CHANGE", "허용되지 않은 상태 변경입니다."),
-	CONCURRENCY_FAILURE(HttpStatus.CONFLICT, "CONCURRENCY_FAILURE", "현재 주문량이 많아 잠시 후 다시 시도해주세요.");
+	CONCURRENCY_FAILURE(HttpStatus.CONFLICT, "CONCURRENCY_FAILURE", "현재 주문량이 많아 잠시 후 다시 시도해주세요."),
+	SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_BUSY", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+	DATABASE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "DATABASE_UNAVAILABLE", "데이터베이스에 연결할 수 없습니다.");
 
 	private final HttpStatus status;
 	private final String code;
@@ -1,11 +1,21 @@
 package com.ksr930.nhnkcp.exception;
 
+import com.ksr930.nhnkcp.config.AdmissionControlDataSource;
 import com.ksr930.nhnkcp.dto.ApiResponse;
+import com.ksr930.nhnkcp.monitoring.ErrorCodeCounters;
+import com.ksr930.nhnkcp.monitoring.jfr.ApiErrorEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.ConstraintViolationException;
+import java.sql.SQLTransientConnectionException;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,11 +23,18 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+	private final ErrorCodeCounters errorCodeCounters;
+
+	// 메트릭 설정이 없는 슬라이스 테스트(@WebMvcTest)에서는 메모리 레지스트리에 기록한다.
+	public GlobalExceptionHandler(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.errorCodeCounters = new ErrorCodeCounters(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+	}
+
 	@ExceptionHandler(ApiException.class)
 	public ResponseEntity<ApiResponse<Void>> handleApiException(ApiException exception) {
 		ErrorCode errorCode = exception.getErrorCode();
 		ApiResponse<Void> response = ApiResponse.error(errorCode, exception.getMessage(), null);
-		return ResponseEntity.status(errorCode.getStatus()).body(response);
+		return respond(errorCode, response);
 	}
 
 	@ExceptionHandler(MethodArgumentNotValidException.class)
@@ -34,7 +51,7 @@ public class GlobalExceptionHandler {
 				ErrorCode.INVALID_REQUEST.getMessage(),
 				errors
 		);
-		return ResponseEntity.status(ErrorCode.INVALID_REQUEST.getStatus()).body(response);
+		return respond(ErrorCode.INVALID_REQUEST, response);
 	}
 
 	@ExceptionHandler(ConstraintViolationException.class)
@@ -53,13 +70,59 @@ public class GlobalExceptionHandler {
 				ErrorCode.INVALID_REQUEST.getMessage(),
 				errors
 		);
-		return ResponseEntity.status(ErrorCode.INVALID_REQUEST.getStatus()).body(response);
+		return respond(ErrorCode.INVALID_REQUEST, response);
 	}
 
+	// 어느 상품의 락에서 실패했는지 알면 오류 이벤트에 함께 남긴다. 상품 별 누적은 ProductLockProfiler 가 한다.
 	@ExceptionHandler(PessimisticLockingFailureException.class)
 	public ResponseEntity<ApiResponse<Void>> handleLockFailure(PessimisticLockingFailureException exception) {
+		Long productId = exception instanceof StockLockFailureException lockFailure ? lockFailure.getProductId() : null;
 		ApiResponse<Void> response = ApiResponse.error(ErrorCode.CONCURRENCY_FAILURE, null);
-		return ResponseEntity.status(ErrorCode.CONCURRENCY_FAILURE.getStatus()).body(response);
+		return respond(ErrorCode.CONCURRENCY_FAILURE, response, productId);
+	}
+
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<ApiResponse<Void>> handleOptimisticLockFailure(OptimisticLockingFailureException exception) {
+		ApiResponse<Void> response = ApiResponse.error(ErrorCode.CONCURRENCY_FAILURE, null);
+		return respond(ErrorCode.CONCURRENCY_FAILURE, response);
+	}
+
+	// 커넥션을 얻지 못했다. 트랜잭션 시작 시점이면 CannotCreateTransactionException 으로 감싸져 온다.
+	// 허가/풀 대기 시간 초과만 SERVICE_BUSY 이고, DB 연결 실패 같은 자원 장애는 DATABASE_UNAVAILABLE 로 구분한다.
+	@ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+	public ResponseEntity<ApiResponse<Void>> handleConnectionUnavailable(RuntimeException exception) {
+		ErrorCode errorCode = isConnectionWaitTimeout(exception) ? ErrorCode.SERVICE_BUSY : ErrorCode.DATABASE_UNAVAILABLE;
+		ApiResponse<Void> response = ApiResponse.error(errorCode, null);
+		return respond(errorCode, response);
+	}
+
+	// Hikari 는 풀 대기 시간 초과를 SQLTransientConnectionException 으로 던지며, 그동안 DB 연결에 실패했으면 그 원인을 cause 로 단다.
+	private static boolean isConnectionWaitTimeout(Throwable exception) {
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof AdmissionControlDataSource.PermitTimeoutException) {
+				return true;
+			}
+			if (cause instanceof SQLTransientConnectionException) {
+				return cause.getCause() == null;
+			}
+		}
+		return false;
+	}
+
+	private <T> ResponseEntity<ApiResponse<T>> respond(ErrorCode errorCode, ApiResponse<T> response) {
+		return respond(errorCode, response, null);
+	}
+
+	private <T> ResponseEntity<ApiResponse<T>> respond(ErrorCode errorCode, ApiResponse<T> response, Long productId) {
+		errorCodeCounters.increment(errorCode);
+		ApiErrorEvent event = new ApiErrorEvent();
+		if (event.shouldCommit()) {
+			event.errorCode = errorCode.name();
+			event.httpStatus = errorCode.getStatus().value();
+			event.productId = productId == null ? 0 : productId;
+			event.commit();
+		}
+		return ResponseEntity.status(errorCode.getStatus()).body(response);
 	}
 
 	private ValidationError toValidationError(FieldError error) {
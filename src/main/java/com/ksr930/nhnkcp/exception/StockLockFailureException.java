@@ -0,0 +1,19 @@
+package com.ksr930.nhnkcp.exception;
+
+import org.springframework.dao.PessimisticLockingFailureException;
+
+/**
+ * 재고 행 락을 얻지 못했다. 배치 UPDATE 처럼 어느 상품에서 실패했는지 알 수 없으면 productId 는 null 이다.
+ */
+public class StockLockFailureException extends PessimisticLockingFailureException {
+	private final Long productId;
+
+	public StockLockFailureException(Long productId, PessimisticLockingFailureException cause) {
+		super("Could not lock stock of product " + productId, cause);
+		this.productId = productId;
+	}
+
+	public Long getProductId() {
+		return productId;
+	}
+}
@@ -0,0 +1,18 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+
+final class AllocationSummaries {
+	private AllocationSummaries() {
+	}
+
+	// 1KB ~ 64MB 범위의 히스토그램 버킷.
+	static DistributionSummary.Builder bytes(String name, String description) {
+		return DistributionSummary.builder(name)
+				.description(description)
+				.baseUnit("bytes")
+				.publishPercentileHistogram()
+				.minimumExpectedValue(1024.0)
+				.maximumExpectedValue(64.0 * 1024 * 1024);
+	}
+}
@@ -0,0 +1,60 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import com.ksr930.nhnkcp.config.AllocationTrackingProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서비스 메서드 별 할당 바이트 히스토그램({@code nhnkcp.service.allocated}). 트랜잭션 어드바이스 바깥에서 재므로 flush 할당도 포함한다.
+ * 서비스가 다른 서비스를 부르면 바깥 메서드에 안쪽 할당이 함께 잡힌다.
+ * 계측 어드바이스 중 가장 바깥(RequestTimingAspect, TransactionWatchdogAspect 순으로 안쪽)이라 그 둘의 할당도 포함한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 3)
+public class AllocationTrackingAspect {
+	private final boolean enabled;
+	private final MeterRegistry registry;
+	private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+	public AllocationTrackingAspect(AllocationTrackingProperties properties, MeterRegistry registry) {
+		this.enabled = properties.enabled() && ThreadAllocation.isSupported();
+		this.registry = registry;
+	}
+
+	@Around("within(@org.springframework.stereotype.Service *)")
+	public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+		long before = enabled ? ThreadAllocation.currentThreadAllocatedBytes() : -1;
+		if (before < 0) {
+			return joinPoint.proceed();
+		}
+		try {
+			return joinPoint.proceed();
+		} finally {
+			long allocated = ThreadAllocation.currentThreadAllocatedBytes() - before;
+			Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+			DistributionSummary summary = summaries.get(method);
+			if (summary == null) {
+				summary = summaries.computeIfAbsent(method, this::register);
+			}
+			summary.record(allocated);
+		}
+	}
+
+	private DistributionSummary register(Method method) {
+		return AllocationSummaries.bytes("nhnkcp.service.allocated", "Heap bytes allocated by a service method call")
+				.tag("service", method.getDeclaringClass().getSimpleName())
+				.tag("method", method.getName())
+				.register(registry);
+	}
+}
@@ -0,0 +1,59 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import com.ksr930.nhnkcp.config.AllocationTrackingProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 하나가 요청 스레드에서 할당한 바이트를 "HTTP 메서드 + 매핑 패턴" 별 히스토그램({@code nhnkcp.request.allocated})으로 기록한다.
+ * 직렬화까지 포함하지만, StreamingResponseBody 처럼 다른 스레드에서 쓰는 본문은 포함하지 않는다.
+ */
+@Component
+@EnableConfigurationProperties(AllocationTrackingProperties.class)
+public class AllocationTrackingFilter extends OncePerRequestFilter {
+	private final boolean enabled;
+	private final MeterRegistry registry;
+	private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+	// 메트릭 설정이 없는 슬라이스 테스트(@WebMvcTest)에서는 기록하지 않는다.
+	public AllocationTrackingFilter(AllocationTrackingProperties properties, ObjectProvider<MeterRegistry> registry) {
+		this.registry = registry.getIfAvailable();
+		this.enabled = properties.enabled() && this.registry != null && ThreadAllocation.isSupported();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		long before = enabled ? ThreadAllocation.currentThreadAllocatedBytes() : -1;
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			if (before >= 0) {
+				long after = ThreadAllocation.currentThreadAllocatedBytes();
+				Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+				String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED");
+				summaries.computeIfAbsent(endpoint, this::register).record(after - before);
+			}
+		}
+	}
+
+	private DistributionSummary register(String endpoint) {
+		int space = endpoint.indexOf(' ');
+		return AllocationSummaries.bytes("nhnkcp.request.allocated", "Heap bytes allocated by the request thread")
+				.tag("method", endpoint.substring(0, space))
+				.tag("uri", endpoint.substring(space + 1))
+				.register(registry);
+	}
+}
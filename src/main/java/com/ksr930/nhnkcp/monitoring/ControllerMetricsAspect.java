@@ -0,0 +1,86 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨트롤러 메서드 별 지연 히스토그램(성공/실패)과 처리 중 요청 수.
+ * 미터는 메서드 당 처음 한 번만 만들고 이후에는 맵 조회와 원자 연산, 히스토그램 기록만 한다.
+ * 로깅 등 다른 어드바이스 비용까지 포함하도록 가장 바깥에서 잰다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ControllerMetricsAspect {
+	private final MeterRegistry registry;
+	private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+	public ControllerMetricsAspect(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Around("within(@org.springframework.web.bind.annotation.RestController *)")
+	public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+		Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+		MethodMeters methodMeters = meters.get(method);
+		if (methodMeters == null) {
+			methodMeters = meters.computeIfAbsent(method, this::register);
+		}
+		methodMeters.inFlight.incrementAndGet();
+		long startedAt = System.nanoTime();
+		boolean success = false;
+		try {
+			Object result = joinPoint.proceed();
+			success = true;
+			return result;
+		} finally {
+			long elapsed = System.nanoTime() - startedAt;
+			(success ? methodMeters.success : methodMeters.failure).record(elapsed, TimeUnit.NANOSECONDS);
+			methodMeters.inFlight.decrementAndGet();
+		}
+	}
+
+	private MethodMeters register(Method method) {
+		String controller = method.getDeclaringClass().getSimpleName();
+		AtomicInteger inFlight = new AtomicInteger();
+		Gauge.builder("nhnkcp.controller.inflight", inFlight, AtomicInteger::get)
+				.description("Controller calls in progress")
+				.tag("controller", controller)
+				.tag("method", method.getName())
+				.register(registry);
+		return new MethodMeters(
+				timer(controller, method.getName(), "success"),
+				timer(controller, method.getName(), "error"),
+				inFlight
+		);
+	}
+
+	private Timer timer(String controller, String method, String outcome) {
+		return Timer.builder("nhnkcp.controller.latency")
+				.description("Controller method latency")
+				.tag("controller", controller)
+				.tag("method", method)
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.minimumExpectedValue(Duration.ofMillis(1))
+				.maximumExpectedValue(Duration.ofSeconds(10))
+				.register(registry);
+	}
+
+	private record MethodMeters(Timer success, Timer failure, AtomicInteger inFlight) {
+	}
+}
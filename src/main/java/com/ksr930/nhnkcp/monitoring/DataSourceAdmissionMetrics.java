@@ -0,0 +1,46 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import com.ksr930.nhnkcp.config.AdmissionControlDataSource;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커넥션 허가 게이트의 남은 허가 수, 대기 요청 수, 허가 대기 시간. 게이트가 꺼져 있으면 등록하지 않는다.
+ */
+@Component
+public class DataSourceAdmissionMetrics implements MeterBinder {
+	private final DataSource dataSource;
+
+	public DataSourceAdmissionMetrics(DataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		AdmissionControlDataSource gate;
+		try {
+			if (!dataSource.isWrapperFor(AdmissionControlDataSource.class)) {
+				return;
+			}
+			gate = dataSource.unwrap(AdmissionControlDataSource.class);
+		} catch (SQLException ex) {
+			return;
+		}
+		Gauge.builder("nhnkcp.datasource.admission.available", gate, AdmissionControlDataSource::availablePermits)
+				.description("Database permits currently available")
+				.register(registry);
+		Gauge.builder("nhnkcp.datasource.admission.waiting", gate, AdmissionControlDataSource::waitingRequests)
+				.description("Requests waiting for a database permit")
+				.register(registry);
+		FunctionTimer.builder("nhnkcp.datasource.admission.wait", gate,
+						AdmissionControlDataSource::permitWaits, AdmissionControlDataSource::permitWaitNanos, TimeUnit.NANOSECONDS)
+				.description("Time spent waiting for a database permit")
+				.register(registry);
+	}
+}
@@ -0,0 +1,28 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import com.ksr930.nhnkcp.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 오류 응답 코드 별 카운터. 모든 코드를 미리 등록해 두어 발생 전에도 0 으로 노출되고, 기록 시 조회 비용이 없다.
+ */
+public class ErrorCodeCounters {
+	private final Map<ErrorCode, Counter> counters = new EnumMap<>(ErrorCode.class);
+
+	public ErrorCodeCounters(MeterRegistry registry) {
+		for (ErrorCode errorCode : ErrorCode.values()) {
+			counters.put(errorCode, Counter.builder("nhnkcp.errors")
+					.description("Error responses by error code")
+					.tag("code", errorCode.getCode())
+					.tag("status", String.valueOf(errorCode.getStatus().value()))
+					.register(registry));
+		}
+	}
+
+	public void increment(ErrorCode errorCode) {
+		counters.get(errorCode).increment();
+	}
+}
@@ -0,0 +1,40 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 대기가 가장 긴 상품 목록.
+ * <pre>
+ * GET /actuator/lockprofile?sort=TIMEOUTS&amp;limit=10
+ * DELETE /actuator/lockprofile   (통계 초기화)
+ * </pre>
+ */
+@Component
+@Endpoint(id = "lockprofile")
+public class LockProfileEndpoint {
+	private static final int DEFAULT_LIMIT = 20;
+
+	private final ProductLockProfiler profiler;
+
+	public LockProfileEndpoint(ProductLockProfiler profiler) {
+		this.profiler = profiler;
+	}
+
+	@ReadOperation
+	public List<ProductLockStats> hottest(@Nullable ProductLockProfiler.Ranking sort, @Nullable Integer limit) {
+		return profiler.hottest(
+				sort == null ? ProductLockProfiler.Ranking.WAIT : sort,
+				limit == null ? DEFAULT_LIMIT : limit
+		);
+	}
+
+	@DeleteOperation
+	public void reset() {
+		profiler.reset();
+	}
+}
@@ -0,0 +1,59 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.service.status.OrderStatusTransitionTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 주문 생성 수와 (from, to) 별 상태 전이 수. 롤백된 요청은 세지 않도록 커밋 후에 올린다.
+ * 전이 카운터는 허용된 (from, to) 쌍에 대해서만 미리 만들어 둔다.
+ */
+@Component
+public class OrderMetrics {
+	private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+	private final Counter created;
+	private final Counter[][] transitions = new Counter[STATUSES.length][STATUSES.length];
+
+	public OrderMetrics(MeterRegistry registry, OrderStatusTransitionTable transitionTable) {
+		this.created = Counter.builder("nhnkcp.orders.created")
+				.description("Orders created")
+				.register(registry);
+		for (OrderStatus from : STATUSES) {
+			for (OrderStatus to : STATUSES) {
+				if (transitionTable.canTransition(from, to)) {
+					transitions[from.ordinal()][to.ordinal()] = Counter.builder("nhnkcp.orders.transitions")
+							.description("Committed order status transitions")
+							.tag("from", from.name())
+							.tag("to", to.name())
+							.register(registry);
+				}
+			}
+		}
+	}
+
+	public void orderCreated() {
+		afterCommit(created);
+	}
+
+	public void transitioned(OrderStatus from, OrderStatus to) {
+		afterCommit(transitions[from.ordinal()][to.ordinal()]);
+	}
+
+	private void afterCommit(Counter counter) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			counter.increment();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				counter.increment();
+			}
+		});
+	}
+}
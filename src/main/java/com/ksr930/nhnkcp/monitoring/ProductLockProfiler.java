@@ -0,0 +1,181 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import com.ksr930.nhnkcp.config.LockProfilerProperties;
+import com.ksr930.nhnkcp.exception.StockLockFailureException;
+import com.ksr930.nhnkcp.monitoring.jfr.StockLockEvent;
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 재고 경로의 상품/슬롯 행 락(SELECT ... FOR UPDATE, 조건부 UPDATE) 획득 대기, 타임아웃, 보유 시간을 상품 별로 잰다.
+ * 보유 시간은 락을 얻은 시점부터 트랜잭션이 끝날 때까지다. 락을 얻지 못하면 상품 ID 를 담은 {@link StockLockFailureException} 으로 던진다.
+ */
+@Component
+public class ProductLockProfiler {
+	private static final Logger log = LoggerFactory.getLogger(ProductLockProfiler.class);
+
+	private final boolean enabled;
+	private final ProductLockTopK topK;
+
+	public ProductLockProfiler(LockProfilerProperties properties) {
+		this.enabled = properties.enabled();
+		this.topK = new ProductLockTopK(properties.capacity());
+	}
+
+	/**
+	 * @param lockCall productId 행을 잠그는 조회
+	 */
+	public <T> T lock(Long productId, Supplier<T> lockCall) {
+		StockLockEvent event = new StockLockEvent();
+		event.begin();
+		long startedAt = System.nanoTime();
+		T result;
+		try {
+			result = lockCall.get();
+		} catch (PessimisticLockingFailureException ex) {
+			commit(event, productId, true);
+			recordTimeouts(List.of(productId), System.nanoTime() - startedAt, ex);
+			throw new StockLockFailureException(productId, ex);
+		}
+		long acquiredAt = System.nanoTime();
+		commit(event, productId, false);
+		recordAcquired(List.of(productId), startedAt, acquiredAt);
+		return result;
+	}
+
+	/**
+	 * 조회 없이 조건부 UPDATE(JDBC 배치 한 번)로 여러 상품 행을 잠그는 경로. 배치 전체의 소요 시간을 각 상품의 대기 시간으로 기록한다.
+	 *
+	 * @param productIds 배치에 넣은 순서대로의 상품 ID
+	 */
+	public <T> T lockAll(List<Long> productIds, Supplier<T> lockCall) {
+		StockLockEvent[] events = beginEvents(productIds.size());
+		long startedAt = System.nanoTime();
+		T result;
+		try {
+			result = lockCall.get();
+		} catch (PessimisticLockingFailureException ex) {
+			List<Long> failed = failedProductIds(productIds, ex);
+			for (int i = 0; i < events.length; i++) {
+				commit(events[i], productIds.get(i), failed.contains(productIds.get(i)));
+			}
+			recordTimeouts(failed, System.nanoTime() - startedAt, ex);
+			throw new StockLockFailureException(failed.size() == 1 ? failed.get(0) : null, ex);
+		}
+		long acquiredAt = System.nanoTime();
+		for (int i = 0; i < events.length; i++) {
+			commit(events[i], productIds.get(i), false);
+		}
+		recordAcquired(productIds, startedAt, acquiredAt);
+		return result;
+	}
+
+	// 배치의 상품마다 같은 구간의 이벤트를 남긴다. 기록 중이 아니면 이벤트를 만들지 않는다.
+	private static StockLockEvent[] beginEvents(int count) {
+		StockLockEvent first = new StockLockEvent();
+		if (!first.isEnabled()) {
+			return new StockLockEvent[0];
+		}
+		StockLockEvent[] events = new StockLockEvent[count];
+		for (int i = 0; i < count; i++) {
+			events[i] = i == 0 ? first : new StockLockEvent();
+			events[i].begin();
+		}
+		return events;
+	}
+
+	private void recordAcquired(List<Long> productIds, long startedAt, long acquiredAt) {
+		if (!enabled) {
+			return;
+		}
+		for (Long productId : productIds) {
+			topK.recordAcquired(productId, acquiredAt - startedAt);
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					long held = System.nanoTime() - acquiredAt;
+					for (Long productId : productIds) {
+						topK.recordHeld(productId, held);
+					}
+				}
+			});
+		}
+	}
+
+	private void recordTimeouts(List<Long> productIds, long waited, PessimisticLockingFailureException ex) {
+		if (!enabled) {
+			return;
+		}
+		for (Long productId : productIds) {
+			topK.recordTimeout(productId, waited);
+		}
+		log.warn("[Lock] product {} lock wait failed after {}ms: {}", productIds.size() == 1 ? productIds.get(0) : productIds,
+				waited / 1_000_000, ex.getClass().getSimpleName());
+	}
+
+	// 배치 중 실패한 문장은 드라이버에 따라 갱신 건수 배열의 EXECUTE_FAILED 로 표시되거나, 배열이 그 문장 앞에서 끝난다.
+	// 어느 쪽으로도 알 수 없으면 배치의 모든 상품을 실패로 본다.
+	private static List<Long> failedProductIds(List<Long> productIds, Throwable ex) {
+		if (productIds.size() == 1) {
+			return productIds;
+		}
+		for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+			if (cause instanceof BatchUpdateException batch && batch.getUpdateCounts() != null) {
+				int[] counts = batch.getUpdateCounts();
+				if (counts.length < productIds.size()) {
+					return List.of(productIds.get(counts.length));
+				}
+				List<Long> failed = new ArrayList<>();
+				for (int i = 0; i < counts.length; i++) {
+					if (counts[i] == Statement.EXECUTE_FAILED) {
+						failed.add(productIds.get(i));
+					}
+				}
+				return failed.isEmpty() ? productIds : failed;
+			}
+		}
+		return productIds;
+	}
+
+	private static void commit(StockLockEvent event, Long productId, boolean timedOut) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.productId = productId;
+			event.timedOut = timedOut;
+			event.commit();
+		}
+	}
+
+	public List<ProductLockStats> hottest(Ranking ranking, int limit) {
+		return topK.snapshot(ranking.order, limit);
+	}
+
+	public void reset() {
+		topK.clear();
+	}
+
+	public enum Ranking {
+		WAIT(Comparator.comparingDouble(ProductLockStats::waitMillis).reversed()),
+		TIMEOUTS(Comparator.comparingLong(ProductLockStats::timeouts).reversed()
+				.thenComparing(Comparator.comparingDouble(ProductLockStats::waitMillis).reversed())),
+		HOLD(Comparator.comparingDouble(ProductLockStats::maxHoldMillis).reversed());
+
+		private final Comparator<ProductLockStats> order;
+
+		Ranking(Comparator<ProductLockStats> order) {
+			this.order = order;
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.ksr930.nhnkcp.monitoring;
+
+/**
+ * 상품 하나의 행 락 통계. 시간 단위는 ms 이다.
+ *
+ * @param waitMillis top-K 에 들어온 뒤 관측한 누적 락 대기 시간(타임아웃 포함)
+ * @param waitErrorMillis 들어오기 전에 있었을 수 있는 대기 시간의 상한(Space-Saving 오차)
+ */
+public record ProductLockStats(
+		long productId,
+		long acquisitions,
+		long timeouts,
+		double waitMillis,
+		double waitErrorMillis,
+		double maxWaitMillis,
+		double avgHoldMillis,
+		double maxHoldMillis
+) {
+}
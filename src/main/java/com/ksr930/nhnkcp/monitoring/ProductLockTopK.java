@@ -0,0 +1,131 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 별 락 통계의 Space-Saving top-K. 누적 락 대기 시간(타임아웃까지 기다린 시간 포함)을 가중치로 삼는다.
+ * 가득 찬 상태에서 새 상품이 들어오면 가중치가 가장 작은 항목을 밀어내고, 밀려난 가중치를 새 항목의 오차 한계로 물려받는다.
+ * 실제 누적 대기 시간이 전체의 1/K 를 넘는 상품은 반드시 남는다.
+ *
+ * <p>가상 스레드에서 호출되므로 synchronized 대신 ReentrantLock 을 쓴다.
+ */
+final class ProductLockTopK {
+	private final int capacity;
+	private final Map<Long, Entry> entries;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	ProductLockTopK(int capacity) {
+		this.capacity = capacity;
+		this.entries = new HashMap<>(capacity * 2);
+	}
+
+	void recordAcquired(long productId, long waitNanos) {
+		lock.lock();
+		try {
+			Entry entry = entryFor(productId);
+			entry.acquisitions++;
+			entry.waitNanos += waitNanos;
+			entry.maxWaitNanos = Math.max(entry.maxWaitNanos, waitNanos);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void recordTimeout(long productId, long waitNanos) {
+		lock.lock();
+		try {
+			Entry entry = entryFor(productId);
+			entry.timeouts++;
+			entry.waitNanos += waitNanos;
+			entry.maxWaitNanos = Math.max(entry.maxWaitNanos, waitNanos);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// 밀려난 상품의 보유 시간은 버린다. 보유 시간은 가중치에 넣지 않는다.
+	void recordHeld(long productId, long holdNanos) {
+		lock.lock();
+		try {
+			Entry entry = entries.get(productId);
+			if (entry != null) {
+				entry.holdNanos += holdNanos;
+				entry.maxHoldNanos = Math.max(entry.maxHoldNanos, holdNanos);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	List<ProductLockStats> snapshot(Comparator<ProductLockStats> order, int limit) {
+		List<ProductLockStats> stats = new ArrayList<>(entries.size());
+		lock.lock();
+		try {
+			entries.forEach((productId, entry) -> stats.add(entry.toStats(productId)));
+		} finally {
+			lock.unlock();
+		}
+		stats.sort(order);
+		return stats.size() > limit ? List.copyOf(stats.subList(0, limit)) : stats;
+	}
+
+	void clear() {
+		lock.lock();
+		try {
+			entries.clear();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private Entry entryFor(long productId) {
+		Entry entry = entries.get(productId);
+		if (entry != null) {
+			return entry;
+		}
+		long inherited = 0;
+		if (entries.size() >= capacity) {
+			Map.Entry<Long, Entry> smallest = null;
+			for (Map.Entry<Long, Entry> candidate : entries.entrySet()) {
+				if (smallest == null || candidate.getValue().waitNanos < smallest.getValue().waitNanos) {
+					smallest = candidate;
+				}
+			}
+			inherited = smallest.getValue().waitNanos;
+			entries.remove(smallest.getKey());
+		}
+		entry = new Entry();
+		entry.waitNanos = inherited;
+		entry.errorNanos = inherited;
+		entries.put(productId, entry);
+		return entry;
+	}
+
+	private static final class Entry {
+		private long acquisitions;
+		private long timeouts;
+		private long waitNanos;
+		private long errorNanos;
+		private long maxWaitNanos;
+		private long holdNanos;
+		private long maxHoldNanos;
+
+		private ProductLockStats toStats(long productId) {
+			return new ProductLockStats(
+					productId,
+					acquisitions,
+					timeouts,
+					(waitNanos - errorNanos) / 1_000_000.0,
+					errorNanos / 1_000_000.0,
+					maxWaitNanos / 1_000_000.0,
+					acquisitions == 0 ? 0 : holdNanos / 1_000_000.0 / acquisitions,
+					maxHoldNanos / 1_000_000.0
+			);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import com.ksr930.nhnkcp.aop.RequestLogSampler;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 로그 샘플링을 재시작 없이 조정한다.
+ * <pre>
+ * POST /actuator/requestlogging {"endpoint": "GET /api/orders/{id}", "sampleRate": 1.0}
+ * POST /actuator/requestlogging {"endpoint": "PATCH /api/orders/{id}/status", "traced": true}
+ * POST /actuator/requestlogging {"sampleRate": 0.05}   (기본 확률)
+ * POST /actuator/requestlogging {"traceHeader": true}  (X-Trace-Request 헤더 허용)
+ * </pre>
+ * endpoint 만 주면 해당 엔드포인트의 확률 설정을 지운다.
+ */
+@Component
+@Endpoint(id = "requestlogging")
+public class RequestLoggingEndpoint {
+	private final RequestLogSampler sampler;
+
+	public RequestLoggingEndpoint(RequestLogSampler sampler) {
+		this.sampler = sampler;
+	}
+
+	@ReadOperation
+	public Settings settings() {
+		return new Settings(sampler.defaultSampleRate(), sampler.sampleRates(), sampler.tracedEndpoints(),
+				sampler.traceHeaderEnabled());
+	}
+
+	@WriteOperation
+	public Settings update(
+			@Nullable String endpoint,
+			@Nullable Double sampleRate,
+			@Nullable Boolean traced,
+			@Nullable Boolean traceHeader
+	) {
+		if (traceHeader != null) {
+			sampler.setTraceHeaderEnabled(traceHeader);
+		}
+		if (endpoint == null) {
+			if (sampleRate != null) {
+				sampler.setDefaultSampleRate(sampleRate);
+			}
+			return settings();
+		}
+		if (sampleRate != null || traced == null) {
+			sampler.setSampleRate(endpoint, sampleRate);
+		}
+		if (traced != null) {
+			sampler.setTraced(endpoint, traced);
+		}
+		return settings();
+	}
+
+	public record Settings(
+			double defaultSampleRate,
+			Map<String, Double> sampleRates,
+			Set<String> tracedEndpoints,
+			boolean traceHeaderEnabled
+	) {
+	}
+}
@@ -0,0 +1,33 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 현재 스레드가 지금까지 할당한 힙 바이트(TLAB 포함). HotSpot 에서는 카운터 읽기 한 번이라 호출당 수십 ns 다.
+ * 지원하지 않는 JVM 이거나 카운터를 읽을 수 없는 스레드(JDK 버전에 따라 가상 스레드)에서는 -1 을 돌려준다.
+ */
+public final class ThreadAllocation {
+	private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+	private ThreadAllocation() {
+	}
+
+	public static boolean isSupported() {
+		return THREADS != null;
+	}
+
+	public static long currentThreadAllocatedBytes() {
+		return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+	}
+
+	private static com.sun.management.ThreadMXBean threadMXBean() {
+		if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+				|| !threads.isThreadAllocatedMemorySupported()) {
+			return null;
+		}
+		if (!threads.isThreadAllocatedMemoryEnabled()) {
+			threads.setThreadAllocatedMemoryEnabled(true);
+		}
+		return threads;
+	}
+}
@@ -0,0 +1,235 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import com.ksr930.nhnkcp.config.TransactionWatchdogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code @Transactional} 서비스 메서드 별 트랜잭션 시간을 재고, 상품 행 락을 쥔 채 임계값을 넘긴 트랜잭션을 찾아낸다.
+ * 끝난 트랜잭션은 종료 시점에, 아직 열려 있는 트랜잭션은 주기적인 스캔으로 잡아 락 타임아웃이 나기 전에 경고한다.
+ * 같은 스레드에서 이어지는 안쪽 {@code @Transactional} 호출은 바깥 트랜잭션에 합쳐 센다.
+ */
+@Component
+public class TransactionWatchdog {
+	private static final Logger log = LoggerFactory.getLogger(TransactionWatchdog.class);
+	private static final int STACK_DEPTH = 12;
+
+	private final boolean enabled;
+	private final long slowThresholdNanos;
+	private final int recentCapacity;
+	private final MeterRegistry registry;
+	private final ThreadLocal<ActiveTransaction> current = new ThreadLocal<>();
+	private final Set<ActiveTransaction> active = ConcurrentHashMap.newKeySet();
+	private final Map<String, MethodMeters> meters = new ConcurrentHashMap<>();
+	private final ArrayDeque<SlowTransaction> recentSlow = new ArrayDeque<>();
+	private final ReentrantLock recentLock = new ReentrantLock();
+
+	public TransactionWatchdog(TransactionWatchdogProperties properties, MeterRegistry registry) {
+		this.enabled = properties.enabled();
+		this.slowThresholdNanos = properties.slowThreshold().toNanos();
+		this.recentCapacity = properties.recentCapacity();
+		this.registry = registry;
+		Gauge.builder("nhnkcp.transaction.active", active, Set::size)
+				.description("Service transactions in progress")
+				.register(registry);
+		Gauge.builder("nhnkcp.transaction.lock.holders", this, TransactionWatchdog::lockHolders)
+				.description("Service transactions in progress holding product row locks")
+				.register(registry);
+	}
+
+	/**
+	 * @return 바깥 트랜잭션이면 추적 핸들, 이미 추적 중인 트랜잭션 안쪽이거나 꺼져 있으면 null
+	 */
+	ActiveTransaction begin(String method) {
+		if (!enabled || current.get() != null) {
+			return null;
+		}
+		ActiveTransaction transaction = new ActiveTransaction(method, Thread.currentThread());
+		current.set(transaction);
+		active.add(transaction);
+		return transaction;
+	}
+
+	void end(ActiveTransaction transaction, boolean success) {
+		current.remove();
+		active.remove(transaction);
+		long elapsed = System.nanoTime() - transaction.startedNanos;
+		MethodMeters methodMeters = meters.computeIfAbsent(transaction.method, this::register);
+		(success ? methodMeters.success : methodMeters.failure).record(elapsed, TimeUnit.NANOSECONDS);
+		if (elapsed < slowThresholdNanos || transaction.productIds.isEmpty()) {
+			return;
+		}
+		methodMeters.slow.increment();
+		SlowTransaction slow = transaction.toSlow(elapsed, success ? "success" : "error", null);
+		if (!transaction.flagged) {
+			log.warn("[TxWatchdog] {} held product locks for {}ms order={} products={}",
+					slow.method(), slow.elapsedMillis(), slow.orderId(), slow.productIds());
+		}
+		recentLock.lock();
+		try {
+			if (recentSlow.size() >= recentCapacity) {
+				recentSlow.removeFirst();
+			}
+			recentSlow.addLast(slow);
+		} finally {
+			recentLock.unlock();
+		}
+	}
+
+	public void orderInvolved(Long orderId) {
+		ActiveTransaction transaction = current.get();
+		if (transaction != null) {
+			transaction.orderId = orderId;
+		}
+	}
+
+	public void productsLocked(Collection<Long> productIds) {
+		ActiveTransaction transaction = current.get();
+		if (transaction != null) {
+			transaction.productIds.addAll(productIds);
+		}
+	}
+
+	// 아직 커밋되지 않은 채 임계값을 넘긴 락 보유 트랜잭션을 한 번씩만 경고한다.
+	@Scheduled(fixedDelayString = "${nhnkcp.transaction-watchdog.scan-interval-ms:1000}")
+	public void scan() {
+		long now = System.nanoTime();
+		for (ActiveTransaction transaction : active) {
+			if (transaction.flagged || transaction.productIds.isEmpty() || now - transaction.startedNanos < slowThresholdNanos) {
+				continue;
+			}
+			transaction.flagged = true;
+			meters.computeIfAbsent(transaction.method, this::register).slow.increment();
+			SlowTransaction slow = transaction.toSlow(now - transaction.startedNanos, "running", stackOf(transaction.thread));
+			log.warn("[TxWatchdog] {} still holding product locks after {}ms order={} products={} thread={} at {}",
+					slow.method(), slow.elapsedMillis(), slow.orderId(), slow.productIds(), slow.thread(),
+					slow.stack().isEmpty() ? "?" : slow.stack().get(0));
+		}
+	}
+
+	/**
+	 * 열린 트랜잭션(오래된 순)과 최근 느린 트랜잭션(최신 순). 임계값을 넘긴 열린 트랜잭션에는 현재 스택을 붙인다.
+	 */
+	public Snapshot snapshot() {
+		long now = System.nanoTime();
+		List<SlowTransaction> running = active.stream()
+				.sorted(Comparator.comparingLong(transaction -> transaction.startedNanos))
+				.map(transaction -> {
+					long elapsed = now - transaction.startedNanos;
+					List<String> stack = elapsed >= slowThresholdNanos ? stackOf(transaction.thread) : List.of();
+					return transaction.toSlow(elapsed, "running", stack);
+				})
+				.toList();
+		List<SlowTransaction> recent;
+		recentLock.lock();
+		try {
+			recent = List.copyOf(recentSlow.reversed());
+		} finally {
+			recentLock.unlock();
+		}
+		return new Snapshot(Duration.ofNanos(slowThresholdNanos).toMillis(), running, recent);
+	}
+
+	private int lockHolders() {
+		int holders = 0;
+		for (ActiveTransaction transaction : active) {
+			if (!transaction.productIds.isEmpty()) {
+				holders++;
+			}
+		}
+		return holders;
+	}
+
+	private MethodMeters register(String method) {
+		return new MethodMeters(
+				timer(method, "success"),
+				timer(method, "error"),
+				Counter.builder("nhnkcp.transaction.slow")
+						.description("Service transactions that held product row locks longer than the slow threshold")
+						.tag("method", method)
+						.register(registry)
+		);
+	}
+
+	private Timer timer(String method, String outcome) {
+		return Timer.builder("nhnkcp.transaction.duration")
+				.description("Service transaction duration including commit")
+				.tag("method", method)
+				.tag("outcome", outcome)
+				.publishPercentileHistogram()
+				.minimumExpectedValue(Duration.ofMillis(1))
+				.maximumExpectedValue(Duration.ofSeconds(10))
+				.register(registry);
+	}
+
+	private static List<String> stackOf(Thread thread) {
+		return Arrays.stream(thread.getStackTrace())
+				.limit(STACK_DEPTH)
+				.map(StackTraceElement::toString)
+				.toList();
+	}
+
+	static final class ActiveTransaction {
+		private final String method;
+		private final Thread thread;
+		private final Instant startedAt = Instant.now();
+		private final long startedNanos = System.nanoTime();
+		private final Set<Long> productIds = ConcurrentHashMap.newKeySet();
+		private volatile Long orderId;
+		private volatile boolean flagged;
+
+		private ActiveTransaction(String method, Thread thread) {
+			this.method = method;
+			this.thread = thread;
+		}
+
+		private SlowTransaction toSlow(long elapsedNanos, String state, List<String> stack) {
+			return new SlowTransaction(
+					method,
+					state,
+					startedAt,
+					TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+					orderId,
+					productIds.stream().sorted().toList(),
+					thread.getName().isEmpty() ? thread.toString() : thread.getName(),
+					stack == null ? List.of() : stack
+			);
+		}
+	}
+
+	public record SlowTransaction(
+			String method,
+			String state,
+			Instant startedAt,
+			long elapsedMillis,
+			Long orderId,
+			List<Long> productIds,
+			String thread,
+			List<String> stack
+	) {
+	}
+
+	public record Snapshot(long slowThresholdMillis, List<SlowTransaction> active, List<SlowTransaction> recentSlow) {
+	}
+
+	private record MethodMeters(Timer success, Timer failure, Counter slow) {
+	}
+}
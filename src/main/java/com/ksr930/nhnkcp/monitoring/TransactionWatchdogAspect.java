@@ -0,0 +1,41 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 트랜잭션 어드바이스(LOWEST_PRECEDENCE)보다 한 단계 바깥에서 감싸 커밋/롤백 시간까지 잰다.
+ * 낙관적 락 재시도 어드바이스보다는 안쪽이므로 재시도는 시도마다 따로 기록된다.
+ * 다른 계측 어드바이스(할당 측정, Server-Timing)보다 안쪽이라 그 비용이 트랜잭션 시간에 섞이지 않는다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class TransactionWatchdogAspect {
+	private final TransactionWatchdog watchdog;
+
+	public TransactionWatchdogAspect(TransactionWatchdog watchdog) {
+		this.watchdog = watchdog;
+	}
+
+	@Around("@annotation(org.springframework.transaction.annotation.Transactional) && within(com.ksr930.nhnkcp.service..*)")
+	public Object watch(ProceedingJoinPoint joinPoint) throws Throwable {
+		TransactionWatchdog.ActiveTransaction transaction = watchdog.begin(
+				joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName());
+		if (transaction == null) {
+			return joinPoint.proceed();
+		}
+		boolean success = false;
+		try {
+			Object result = joinPoint.proceed();
+			success = true;
+			return result;
+		} finally {
+			watchdog.end(transaction, success);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import com.ksr930.nhnkcp.config.AdmissionControlDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 열린 트랜잭션, 최근 느린 트랜잭션, 커넥션 풀 상태를 한 번에 덤프한다.
+ * <pre>
+ * GET /actuator/transactions
+ * </pre>
+ * 풀 대기/사용 시간은 Hikari 가 기록하는 {@code hikaricp.connections.acquire}, {@code hikaricp.connections.usage} 를 읽는다.
+ * 가상 스레드 모드에서 커넥션 허가 게이트가 켜져 있으면 게이트의 대기 수와 허가 대기 시간도 함께 보여 준다.
+ */
+@Component
+@Endpoint(id = "transactions")
+public class TransactionWatchdogEndpoint {
+	private final TransactionWatchdog watchdog;
+	private final DataSource dataSource;
+	private final MeterRegistry registry;
+
+	public TransactionWatchdogEndpoint(TransactionWatchdog watchdog, DataSource dataSource, MeterRegistry registry) {
+		this.watchdog = watchdog;
+		this.dataSource = dataSource;
+		this.registry = registry;
+	}
+
+	@ReadOperation
+	public Dump dump() {
+		return new Dump(watchdog.snapshot(), pool());
+	}
+
+	private Pool pool() {
+		HikariDataSource hikari;
+		try {
+			if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+				return null;
+			}
+			hikari = dataSource.unwrap(HikariDataSource.class);
+		} catch (SQLException ex) {
+			return null;
+		}
+		HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+		if (pool == null) {
+			return null;
+		}
+		return new Pool(
+				hikari.getPoolName(),
+				hikari.getMaximumPoolSize(),
+				pool.getActiveConnections(),
+				pool.getIdleConnections(),
+				pool.getThreadsAwaitingConnection(),
+				timing("hikaricp.connections.acquire"),
+				timing("hikaricp.connections.usage"),
+				admission()
+		);
+	}
+
+	private Admission admission() {
+		AdmissionControlDataSource gate;
+		try {
+			if (!dataSource.isWrapperFor(AdmissionControlDataSource.class)) {
+				return null;
+			}
+			gate = dataSource.unwrap(AdmissionControlDataSource.class);
+		} catch (SQLException ex) {
+			return null;
+		}
+		long waits = gate.permitWaits();
+		double meanMillis = waits == 0 ? 0 : nanosToMillis(gate.permitWaitNanos()) / waits;
+		return new Admission(
+				gate.maxPermits(),
+				gate.availablePermits(),
+				gate.waitingRequests(),
+				new Timing(waits, meanMillis, nanosToMillis(gate.maxPermitWaitNanos()))
+		);
+	}
+
+	private static double nanosToMillis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	private Timing timing(String name) {
+		Timer timer = registry.find(name).timer();
+		if (timer == null) {
+			return null;
+		}
+		return new Timing(timer.count(), timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS));
+	}
+
+	public record Dump(TransactionWatchdog.Snapshot transactions, Pool connectionPool) {
+	}
+
+	public record Pool(
+			String name,
+			int maximumPoolSize,
+			int active,
+			int idle,
+			int awaiting,
+			Timing acquire,
+			Timing usage,
+			Admission admission
+	) {
+	}
+
+	/**
+	 * @param permitWait 기동 이후 누적이며 maxMillis 도 기동 이후 최댓값이다.
+	 */
+	public record Admission(int maxPermits, int available, int waiting, Timing permitWait) {
+	}
+
+	/**
+	 * @param maxMillis 최근 측정 구간의 최댓값
+	 */
+	public record Timing(long count, double meanMillis, double maxMillis) {
+	}
+}
@@ -0,0 +1,73 @@
+package com.ksr930.nhnkcp.monitoring;
+
+import com.ksr930.nhnkcp.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 모드에서 JFR jdk.VirtualThreadPinned 이벤트를 구독해, 캐리어 스레드를 고정한 지점을 로그와 메트릭으로 남긴다.
+ * synchronized 블록 안에서의 블로킹(JDBC 드라이버 내부 락 대기 등)이 주된 원인이다.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+	private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int LOGGED_FRAMES = 8;
+
+	private final VirtualThreadProperties properties;
+	private final Counter pinnedCounter;
+	private RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+				.description("Virtual threads that pinned their carrier longer than the threshold")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public synchronized void start() {
+		stream = new RecordingStream();
+		stream.enable(PINNED_EVENT).withThreshold(properties.pinnedThreshold()).withStackTrace();
+		stream.onEvent(PINNED_EVENT, this::onPinned);
+		stream.startAsync();
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (stream != null) {
+			stream.close();
+			stream = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return stream != null;
+	}
+
+	private void onPinned(RecordedEvent event) {
+		pinnedCounter.increment();
+		if (!log.isWarnEnabled()) {
+			return;
+		}
+		List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+		String stack = frames.stream()
+				.limit(LOGGED_FRAMES)
+				.map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+				.collect(Collectors.joining("\n\tat ", "\tat ", ""));
+		log.warn("virtual thread pinned its carrier for {}ms\n{}", event.getDuration().toMillis(), stack);
+	}
+}
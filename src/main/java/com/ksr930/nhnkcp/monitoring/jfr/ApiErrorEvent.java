@@ -0,0 +1,28 @@
+package com.ksr930.nhnkcp.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 오류 응답 한 건. 원인 예외의 위치는 요청 로그로 찾고, 여기서는 오류 코드 별 발생 시점만 남긴다.
+ */
+@Name("nhnkcp.ApiError")
+@Label("API Error")
+@Category({"nhnkcp", "API"})
+@Description("Error response written by GlobalExceptionHandler")
+@StackTrace(false)
+public final class ApiErrorEvent extends Event {
+	@Label("Error Code")
+	public String errorCode;
+
+	@Label("HTTP Status")
+	public int httpStatus;
+
+	// 재고 락 실패처럼 특정 상품에서 난 오류만 채운다. 0 이면 없음.
+	@Label("Product Id")
+	public long productId;
+}
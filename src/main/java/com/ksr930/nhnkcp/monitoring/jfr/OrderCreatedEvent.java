@@ -0,0 +1,27 @@
+package com.ksr930.nhnkcp.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 주문 생성 한 건. 이벤트 구간은 {@code OrderService.create} 본문(재고 확인부터 저장까지)이다.
+ */
+@Name("nhnkcp.OrderCreated")
+@Label("Order Created")
+@Category({"nhnkcp", "Order"})
+@Description("Order creation inside OrderService.create")
+@StackTrace(false)
+public final class OrderCreatedEvent extends Event {
+	@Label("Order Id")
+	public long orderId;
+
+	@Label("Item Count")
+	public int itemCount;
+
+	@Label("Total Quantity")
+	public int totalQuantity;
+}
@@ -0,0 +1,30 @@
+package com.ksr930.nhnkcp.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 상태 전이 부수 효과 한 번. 이벤트 구간은 {@code OrderStatusHandler#onTransition} 실행 시간이다.
+ */
+@Name("nhnkcp.OrderStatusTransition")
+@Label("Order Status Transition")
+@Category({"nhnkcp", "Order"})
+@Description("Order status transition handled by an OrderStatusHandler")
+@StackTrace(false)
+public final class OrderStatusTransitionEvent extends Event {
+	@Label("Order Id")
+	public long orderId;
+
+	@Label("From")
+	public String from;
+
+	@Label("To")
+	public String to;
+
+	@Label("Handler")
+	public String handler;
+}
@@ -0,0 +1,25 @@
+package com.ksr930.nhnkcp.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 상품/슬롯 행 락(SELECT ... FOR UPDATE) 획득 한 번. 이벤트 구간이 락 대기 시간이다.
+ * 조건부 UPDATE 배치는 배치에 든 상품마다 배치 전체 구간으로 하나씩 남긴다.
+ */
+@Name("nhnkcp.StockLock")
+@Label("Stock Lock Acquired")
+@Category({"nhnkcp", "Stock"})
+@Description("Row lock wait on the stock path")
+@StackTrace(false)
+public final class StockLockEvent extends Event {
+	@Label("Product Id")
+	public long productId;
+
+	@Label("Timed Out")
+	public boolean timedOut;
+}
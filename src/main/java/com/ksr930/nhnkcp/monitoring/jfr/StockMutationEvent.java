@@ -0,0 +1,33 @@
+package com.ksr930.nhnkcp.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 재고 엔진 호출 한 번(차감, 복구, 재입고). 이벤트 구간은 엔진 안에서의 락 대기와 UPDATE 를 모두 포함한다.
+ */
+@Name("nhnkcp.StockMutation")
+@Label("Stock Mutation")
+@Category({"nhnkcp", "Stock"})
+@Description("Stock engine decrease, restore or replace call")
+@StackTrace(false)
+public final class StockMutationEvent extends Event {
+	@Label("Operation")
+	public String operation;
+
+	@Label("Stock Mode")
+	public String mode;
+
+	@Label("Order Id")
+	public long orderId;
+
+	@Label("Product Count")
+	public int productCount;
+
+	@Label("Total Quantity")
+	public int totalQuantity;
+}
@@ -0,0 +1,47 @@
+package com.ksr930.nhnkcp.monitoring.timing;
+
+import com.ksr930.nhnkcp.monitoring.timing.RequestTimings.Layer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 샘플링된 요청에서 컨트롤러, 서비스, 리포지토리 호출 시간을 잰다. 샘플링되지 않은 요청은 ThreadLocal 조회 한 번으로 끝난다.
+ * 트랜잭션 어드바이스보다 바깥에서 감싸 서비스 시간에 커밋(flush)까지 포함한다.
+ * 할당 측정보다 안쪽, 트랜잭션 감시보다 바깥이다.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+public class RequestTimingAspect {
+	@Around("within(@org.springframework.web.bind.annotation.RestController *)")
+	public Object controller(ProceedingJoinPoint joinPoint) throws Throwable {
+		return measure(joinPoint, Layer.CONTROLLER);
+	}
+
+	@Around("within(@org.springframework.stereotype.Service *)")
+	public Object service(ProceedingJoinPoint joinPoint) throws Throwable {
+		return measure(joinPoint, Layer.SERVICE);
+	}
+
+	@Around("this(org.springframework.data.repository.Repository) || within(@org.springframework.stereotype.Repository *)")
+	public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+		return measure(joinPoint, Layer.REPOSITORY);
+	}
+
+	private static Object measure(ProceedingJoinPoint joinPoint, Layer layer) throws Throwable {
+		RequestTimings timings = RequestTimings.current();
+		if (timings == null) {
+			return joinPoint.proceed();
+		}
+		long enteredAt = timings.enter(layer);
+		try {
+			return joinPoint.proceed();
+		} finally {
+			timings.exit(layer, enteredAt);
+		}
+	}
+}
@@ -0,0 +1,172 @@
+package com.ksr930.nhnkcp.monitoring.timing;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 샘플링된 요청 하나의 계층 별 소요 시간. 요청 스레드에만 묶여 있으므로 동기화하지 않는다.
+ * 같은 계층이 중첩 호출되면(서비스가 서비스를 부르는 등) 가장 바깥 호출만 더해 중복 집계를 막는다.
+ * SQL 은 리포지토리 호출 안에서 실행된 것과 그 밖(지연 로딩, 커밋 시 flush)에서 실행된 것을 나눠 센다.
+ */
+public final class RequestTimings {
+	private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+	private static final Layer[] LAYERS = Layer.values();
+	private static final int MAX_SQL_LENGTH = 200;
+
+	private final long startedNanos = System.nanoTime();
+	private final long[] layerNanos = new long[LAYERS.length];
+	private final int[] layerCalls = new int[LAYERS.length];
+	private final int[] depth = new int[LAYERS.length];
+	private final int maxStatements;
+	private final List<Statement> statements;
+	private long repositorySqlNanos;
+	private int repositorySqlCount;
+	private long looseSqlNanos;
+	private int looseSqlCount;
+	private long bodyWriteStartedNanos = -1;
+
+	private RequestTimings(boolean debug, int maxStatements) {
+		this.maxStatements = maxStatements;
+		this.statements = debug ? new ArrayList<>() : null;
+	}
+
+	/**
+	 * @return 기록 중인 요청이면 그 요청의 기록기, 아니면 null
+	 */
+	public static RequestTimings current() {
+		return CURRENT.get();
+	}
+
+	static RequestTimings begin(boolean debug, int maxStatements) {
+		RequestTimings timings = new RequestTimings(debug, maxStatements);
+		CURRENT.set(timings);
+		return timings;
+	}
+
+	static void end() {
+		CURRENT.remove();
+	}
+
+	public long enter(Layer layer) {
+		depth[layer.ordinal()]++;
+		return System.nanoTime();
+	}
+
+	public void exit(Layer layer, long enteredNanos) {
+		int index = layer.ordinal();
+		if (--depth[index] == 0) {
+			layerNanos[index] += System.nanoTime() - enteredNanos;
+			layerCalls[index]++;
+		}
+	}
+
+	// 다른 계층 안에서 잰 독립 구간(로그 렌더링 등)을 더한다.
+	public void add(Layer layer, long nanos) {
+		layerNanos[layer.ordinal()] += nanos;
+		layerCalls[layer.ordinal()]++;
+	}
+
+	void sql(String sql, long nanos) {
+		boolean inRepository = depth[Layer.REPOSITORY.ordinal()] > 0;
+		if (inRepository) {
+			repositorySqlNanos += nanos;
+			repositorySqlCount++;
+		} else {
+			looseSqlNanos += nanos;
+			looseSqlCount++;
+		}
+		if (statements != null && statements.size() < maxStatements) {
+			String text = sql == null ? "?" : sql.replaceAll("\\s+", " ").trim();
+			statements.add(new Statement(
+					text.length() > MAX_SQL_LENGTH ? text.substring(0, MAX_SQL_LENGTH) + "..." : text,
+					millis(nanos),
+					inRepository
+			));
+		}
+	}
+
+	void bodyWriteStarted() {
+		if (bodyWriteStartedNanos < 0) {
+			bodyWriteStartedNanos = System.nanoTime();
+		}
+	}
+
+	boolean debug() {
+		return statements != null;
+	}
+
+	/**
+	 * 응답 본문 쓰기 직전까지의 분해. 헤더는 본문보다 먼저 나가므로 직렬화 시간은 트레일러에만 담긴다.
+	 */
+	String serverTiming() {
+		long appNanos = (bodyWriteStartedNanos < 0 ? System.nanoTime() : bodyWriteStartedNanos) - startedNanos;
+		StringBuilder header = new StringBuilder(192);
+		entry(header, "app", appNanos, null);
+		for (Layer layer : LAYERS) {
+			if (layerCalls[layer.ordinal()] > 0) {
+				entry(header, layer.metricName, layerNanos[layer.ordinal()], layerCalls[layer.ordinal()] + " calls");
+			}
+		}
+		entry(header, "sql", repositorySqlNanos, repositorySqlCount + " queries");
+		if (looseSqlCount > 0) {
+			entry(header, "sql-lazy", looseSqlNanos, looseSqlCount + " queries outside repositories");
+		}
+		return header.toString();
+	}
+
+	String trailerTiming() {
+		long now = System.nanoTime();
+		StringBuilder trailer = new StringBuilder(64);
+		entry(trailer, "total", now - startedNanos, null);
+		if (bodyWriteStartedNanos >= 0) {
+			entry(trailer, "serialize", now - bodyWriteStartedNanos, null);
+		}
+		return trailer.toString();
+	}
+
+	Map<String, Object> debugDetail() {
+		Map<String, Object> layers = new LinkedHashMap<>();
+		for (Layer layer : LAYERS) {
+			layers.put(layer.metricName, millis(layerNanos[layer.ordinal()]));
+		}
+		Map<String, Object> detail = new LinkedHashMap<>();
+		detail.put("totalMs", millis(System.nanoTime() - startedNanos));
+		detail.put("layersMs", layers);
+		detail.put("queries", repositorySqlCount + looseSqlCount);
+		detail.put("statements", statements == null ? List.of() : statements);
+		return detail;
+	}
+
+	private static void entry(StringBuilder header, String name, long nanos, String description) {
+		if (!header.isEmpty()) {
+			header.append(", ");
+		}
+		header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0));
+		if (description != null) {
+			header.append(";desc=\"").append(description).append('"');
+		}
+	}
+
+	private static double millis(long nanos) {
+		return Math.round(nanos / 10_000.0) / 100.0;
+	}
+
+	public enum Layer {
+		CONTROLLER("controller"),
+		SERVICE("service"),
+		REPOSITORY("repository"),
+		LOGGING("logging");
+
+		private final String metricName;
+
+		Layer(String metricName) {
+			this.metricName = metricName;
+		}
+	}
+
+	record Statement(String sql, double ms, boolean inRepository) {
+	}
+}
@@ -0,0 +1,87 @@
+package com.ksr930.nhnkcp.monitoring.timing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksr930.nhnkcp.config.ServerTimingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 요청 단위로 Server-Timing 기록 여부를 정하고 기록기를 요청 스레드에 묶는다.
+ * 강제 헤더가 debug 이고 클라이언트가 {@code TE: trailers} 를 보내면, 직렬화까지 포함한 전체 시간과
+ * SQL 목록(JSON)을 응답 트레일러로 보낸다. 강제 헤더와 debug 는 각각 운영자가 켜야 따른다.
+ */
+@Component
+@EnableConfigurationProperties(ServerTimingProperties.class)
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class ServerTimingFilter extends OncePerRequestFilter {
+	static final String SERVER_TIMING = "Server-Timing";
+	static final String DEBUG_TRAILER = "X-Server-Timing-Debug";
+
+	private final ServerTimingProperties properties;
+	private final ObjectMapper objectMapper;
+
+	public ServerTimingFilter(ServerTimingProperties properties, ObjectMapper objectMapper) {
+		this.properties = properties;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		String forced = !properties.forceEnabled() || properties.forceHeader().isEmpty()
+				? null : request.getHeader(properties.forceHeader());
+		boolean debugRequested = "debug".equalsIgnoreCase(forced);
+		boolean debug = debugRequested && properties.debugEnabled();
+		boolean sampled = properties.enabled() && (debugRequested || "true".equalsIgnoreCase(forced)
+				|| ThreadLocalRandom.current().nextDouble() < properties.sampleRate());
+		if (!sampled) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		RequestTimings timings = RequestTimings.begin(debug, properties.debugMaxStatements());
+		if (debug && acceptsTrailers(request)) {
+			try {
+				response.setHeader("Trailer", SERVER_TIMING + ", " + DEBUG_TRAILER);
+				response.setTrailerFields(() -> trailers(timings));
+			} catch (IllegalStateException ex) {
+				// HTTP/1.0 등 트레일러를 보낼 수 없는 연결에서는 헤더만 보낸다.
+			}
+		}
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			RequestTimings.end();
+			// 본문이 없는 응답(204 등)은 ResponseBodyAdvice 를 거치지 않는다.
+			if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+				response.setHeader(SERVER_TIMING, timings.serverTiming());
+			}
+		}
+	}
+
+	private Map<String, String> trailers(RequestTimings timings) {
+		String detail;
+		try {
+			detail = objectMapper.writeValueAsString(timings.debugDetail());
+		} catch (JsonProcessingException ex) {
+			detail = "{}";
+		}
+		return Map.of(SERVER_TIMING, timings.trailerTiming(), DEBUG_TRAILER, detail);
+	}
+
+	private static boolean acceptsTrailers(HttpServletRequest request) {
+		String te = request.getHeader("TE");
+		return te != null && te.toLowerCase().contains("trailers");
+	}
+}
@@ -0,0 +1,37 @@
+package com.ksr930.nhnkcp.monitoring.timing;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 본문 직렬화 직전에 Server-Timing 헤더를 붙인다. 본문이 쓰이기 시작하면 헤더를 더 붙일 수 없기 때문이다.
+ */
+@RestControllerAdvice
+public class ServerTimingResponseAdvice implements ResponseBodyAdvice<Object> {
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(
+			Object body,
+			MethodParameter returnType,
+			MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType,
+			ServerHttpRequest request,
+			ServerHttpResponse response
+	) {
+		RequestTimings timings = RequestTimings.current();
+		if (timings != null) {
+			timings.bodyWriteStarted();
+			response.getHeaders().set(ServerTimingFilter.SERVER_TIMING, timings.serverTiming());
+		}
+		return body;
+	}
+}
@@ -0,0 +1,80 @@
+package com.ksr930.nhnkcp.monitoring.timing;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 샘플링된 요청에서 빌린 커넥션만 프록시로 감싸 SQL 실행(execute*) 시간을 {@link RequestTimings} 에 기록한다.
+ * 커넥션을 빌리는 시점에 기록 중이 아니면 원래 커넥션을 그대로 돌려주므로 나머지 요청에는 비용이 없다.
+ */
+public class SqlTimingDataSource extends DelegatingDataSource {
+	public SqlTimingDataSource(DataSource target) {
+		super(target);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return timed(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return timed(super.getConnection(username, password));
+	}
+
+	private static Connection timed(Connection connection) {
+		RequestTimings timings = RequestTimings.current();
+		if (timings == null) {
+			return connection;
+		}
+		return (Connection) Proxy.newProxyInstance(
+				Connection.class.getClassLoader(),
+				new Class<?>[]{Connection.class},
+				(proxy, method, args) -> {
+					Object result = invoke(connection, method, args);
+					if (result instanceof Statement statement
+							&& (method.getName().startsWith("prepare") || "createStatement".equals(method.getName()))) {
+						String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+						return timedStatement(statement, sql, timings);
+					}
+					return result;
+				});
+	}
+
+	private static Statement timedStatement(Statement statement, String preparedSql, RequestTimings timings) {
+		Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+				: statement instanceof PreparedStatement ? PreparedStatement.class
+				: Statement.class;
+		return (Statement) Proxy.newProxyInstance(
+				Statement.class.getClassLoader(),
+				new Class<?>[]{type},
+				(proxy, method, args) -> {
+					if (!method.getName().startsWith("execute")) {
+						return invoke(statement, method, args);
+					}
+					String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+					long startedAt = System.nanoTime();
+					try {
+						return invoke(statement, method, args);
+					} finally {
+						timings.sql(sql, System.nanoTime() - startedAt);
+					}
+				});
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.ksr930.nhnkcp.repository;
+
+public record ItemQuantity(
+		Long productId,
+		int quantity
+) {
+}
@@ -0,0 +1,87 @@
+package com.ksr930.nhnkcp.repository;
+
+import com.ksr930.nhnkcp.config.ExportProperties;
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.dto.order.OrderExportFilter;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 내보내기 전용 JDBC 조회. 영속성 컨텍스트를 거치지 않고, 주문 ID 키셋으로 자른 청크 단위로 주문과 항목을 읽는다.
+ * 청크마다 커넥션을 잡았다 바로 돌려주므로, 내보내기가 길어져도 커넥션(과 허가 게이트의 허가)을 오래 쥐지 않는다.
+ */
+@Repository
+public class OrderExportRepository {
+	private static final String ORDERS_SQL = "select o.id, o.status, o.created_at, o.updated_at from orders o where o.id > ?";
+	private static final String ITEMS_SQL = "select o.id, o.status, o.created_at, o.updated_at, "
+			+ "i.product_id, p.name as product_name, i.unit_price, i.quantity "
+			+ "from (%s order by o.id limit ?) o "
+			+ "left join order_items i on i.order_id = o.id "
+			+ "left join products p on p.id = i.product_id "
+			+ "order by o.id, i.id";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public OrderExportRepository(DataSource dataSource, ExportProperties properties) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.jdbcTemplate.setFetchSize(properties.fetchSize());
+	}
+
+	/**
+	 * afterOrderId 보다 큰 주문 ID 를 오름차순으로 최대 orderLimit 건 읽고, 항목과 조인한 행을 주문 ID, 항목 ID 순으로 돌려준다.
+	 * 같은 주문의 항목 행은 항상 연속되며, 한 주문의 항목이 두 청크로 나뉘지 않는다.
+	 */
+	public List<OrderExportRow> findChunk(OrderExportFilter filter, long afterOrderId, int orderLimit) {
+		StringBuilder orders = new StringBuilder(ORDERS_SQL);
+		List<Object> args = new ArrayList<>(5);
+		args.add(afterOrderId);
+		if (filter.status() != null) {
+			orders.append(" and o.status = ?");
+			args.add(filter.status().name());
+		}
+		if (filter.start() != null) {
+			orders.append(" and o.created_at >= ?");
+			args.add(Timestamp.valueOf(filter.start()));
+		}
+		if (filter.end() != null) {
+			orders.append(" and o.created_at <= ?");
+			args.add(Timestamp.valueOf(filter.end()));
+		}
+		args.add(orderLimit);
+
+		return jdbcTemplate.query(ITEMS_SQL.formatted(orders), (rs, rowNum) -> {
+			long productId = rs.getLong("product_id");
+			boolean hasItem = !rs.wasNull();
+			return new OrderExportRow(
+					rs.getLong("id"),
+					OrderStatus.valueOf(rs.getString("status")),
+					rs.getTimestamp("created_at").toLocalDateTime(),
+					rs.getTimestamp("updated_at").toLocalDateTime(),
+					hasItem ? productId : null,
+					rs.getString("product_name"),
+					rs.getInt("unit_price"),
+					rs.getInt("quantity")
+			);
+		}, args.toArray());
+	}
+
+	/**
+	 * 주문-항목 조인 한 행. 항목이 없는 주문은 productId 가 null 이다.
+	 */
+	public record OrderExportRow(
+			long orderId,
+			OrderStatus status,
+			LocalDateTime createdAt,
+			LocalDateTime updatedAt,
+			Long productId,
+			String productName,
+			int unitPrice,
+			int quantity
+	) {
+	}
+}
@@ -0,0 +1,10 @@
+package com.ksr930.nhnkcp.repository;
+
+public record OrderItemRow(
+		Long orderId,
+		Long productId,
+		String productName,
+		int unitPrice,
+		int quantity
+) {
+}
@@ -3,17 +3,104 @@ package com.ksr930.nhnkcp.repository;
 import com.ksr930.nhnkcp.domain.order.Order;
 import com.ksr930.nhnkcp.domain.order.OrderStatus;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
-	Page<Order> findAllByStatus(OrderStatus status, Pageable pageable);
+	Optional<OrderRow> findRowById(Long id);
 
-	Page<Order> findAllByCreatedAtBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
+	Page<OrderRow> findRowsBy(Pageable pageable);
+
+	Page<OrderRow> findRowsByStatus(OrderStatus status, Pageable pageable);
+
+	Page<OrderRow> findRowsByCreatedAtBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+	Slice<OrderRow> findRowSliceBy(Pageable pageable);
+
+	Slice<OrderRow> findRowSliceByStatus(OrderStatus status, Pageable pageable);
+
+	Slice<OrderRow> findRowSliceByCreatedAtBetween(LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+	@Query("select new com.ksr930.nhnkcp.repository.OrderItemRow(i.order.id, p.id, p.name, i.unitPrice, i.quantity) "
+			+ "from OrderItem i join i.product p where i.order.id in :orderIds order by i.id")
+	List<OrderItemRow> findItemRowsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+	long countByStatus(OrderStatus status);
+
+	long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
+
+	@Query("select o.id from Order o order by o.createdAt desc, o.id desc")
+	List<Long> findIdsLatestFirst(Pageable pageable);
+
+	@Query("select o.id from Order o where o.status = :status order by o.createdAt desc, o.id desc")
+	List<Long> findIdsByStatusLatestFirst(@Param("status") OrderStatus status, Pageable pageable);
+
+	@Query("select o.id from Order o where o.createdAt between :start and :end order by o.createdAt desc, o.id desc")
+	List<Long> findIdsByCreatedAtBetweenLatestFirst(
+			@Param("start") LocalDateTime start,
+			@Param("end") LocalDateTime end,
+			Pageable pageable
+	);
+
+	// 키셋 조건 앞의 createdAt <= :createdAt 은 인덱스 범위 탐색 경계다. OR 만 있으면 옵티마이저가 범위를 잡지 못한다.
+	@Query("select o.id from Order o "
+			+ "where o.createdAt <= :createdAt and (o.createdAt < :createdAt or o.id < :id) "
+			+ "order by o.createdAt desc, o.id desc")
+	List<Long> findIdsAfterCursor(
+			@Param("createdAt") LocalDateTime createdAt,
+			@Param("id") Long id,
+			Pageable pageable
+	);
+
+	@Query("select o.id from Order o where o.status = :status "
+			+ "and o.createdAt <= :createdAt and (o.createdAt < :createdAt or o.id < :id) "
+			+ "order by o.createdAt desc, o.id desc")
+	List<Long> findIdsByStatusAfterCursor(
+			@Param("status") OrderStatus status,
+			@Param("createdAt") LocalDateTime createdAt,
+			@Param("id") Long id,
+			Pageable pageable
+	);
+
+	@Query("select o.id from Order o where o.createdAt between :start and :end "
+			+ "and o.createdAt <= :createdAt and (o.createdAt < :createdAt or o.id < :id) "
+			+ "order by o.createdAt desc, o.id desc")
+	List<Long> findIdsByCreatedAtBetweenAfterCursor(
+			@Param("start") LocalDateTime start,
+			@Param("end") LocalDateTime end,
+			@Param("createdAt") LocalDateTime createdAt,
+			@Param("id") Long id,
+			Pageable pageable
+	);
+
+	// 페이지는 ID 로만 자른 뒤 해당 ID 들만 fetch join 하므로, 컬렉션 fetch join 의 메모리 페이징이 발생하지 않는다.
+	@Query("select distinct o from Order o left join fetch o.items i left join fetch i.product where o.id in :ids")
+	List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
 
 	@Query("select distinct o from Order o left join fetch o.items i left join fetch i.product where o.id = :id")
 	java.util.Optional<Order> findByIdWithItems(@Param("id") Long id);
+
+	@Query("select o.status from Order o where o.id = :id")
+	Optional<OrderStatus> findStatusById(@Param("id") Long id);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Order o set o.status = :to, o.updatedAt = :updatedAt where o.id = :id and o.status = :from")
+	int updateStatus(
+			@Param("id") Long id,
+			@Param("from") OrderStatus from,
+			@Param("to") OrderStatus to,
+			@Param("updatedAt") LocalDateTime updatedAt
+	);
+
+	@Query("select new com.ksr930.nhnkcp.repository.ItemQuantity(i.product.id, i.quantity) "
+			+ "from OrderItem i where i.order.id = :orderId")
+	List<ItemQuantity> findItemQuantities(@Param("orderId") Long orderId);
 }
@@ -0,0 +1,12 @@
+package com.ksr930.nhnkcp.repository;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import java.time.LocalDateTime;
+
+public record OrderRow(
+		Long id,
+		OrderStatus status,
+		LocalDateTime createdAt,
+		LocalDateTime updatedAt
+) {
+}
@@ -2,11 +2,13 @@ package com.ksr930.nhnkcp.repository;
 
 import com.ksr930.nhnkcp.domain.product.Category;
 import com.ksr930.nhnkcp.domain.product.Product;
+import java.util.Collection;
 import java.util.List;
 import jakarta.persistence.LockModeType;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -14,9 +16,18 @@ import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import jakarta.persistence.QueryHint;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductStockRepository {
 	Page<Product> findAllByCategory(Category category, Pageable pageable);
 
+	Slice<Product> findSliceBy(Pageable pageable);
+
+	Slice<Product> findSliceByCategory(Category category, Pageable pageable);
+
+	long countByCategory(Category category);
+
+	@Query("select new com.ksr930.nhnkcp.repository.ProductName(p.id, p.name) from Product p where p.id in :ids")
+	List<ProductName> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
 	@Query("select p from Product p where p.id = :id")
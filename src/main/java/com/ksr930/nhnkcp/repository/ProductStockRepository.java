@@ -0,0 +1,22 @@
+package com.ksr930.nhnkcp.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+
+public interface ProductStockRepository {
+	int[] decreaseStock(SortedMap<Long, Integer> quantityByProductId);
+
+	int[] increaseStock(SortedMap<Long, Integer> quantityByProductId);
+
+	Optional<Integer> findStockQuantity(Long productId);
+
+	Optional<ProductStockSnapshot> findStockSnapshot(Long productId);
+
+	int compareAndSetStock(Long productId, long expectedVersion, int stockQuantity);
+
+	Map<Long, Integer> findAllStockQuantities();
+
+	int[] syncStockFromSlots(Collection<Long> productIds);
+}
@@ -0,0 +1,113 @@
+package com.ksr930.nhnkcp.repository;
+
+import com.ksr930.nhnkcp.domain.product.Product;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import org.hibernate.Hibernate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+public class ProductStockRepositoryImpl implements ProductStockRepository {
+	private static final String DECREASE_SQL = "update products set stock_quantity = stock_quantity - ?, "
+			+ "version = version + 1 where id = ? and stock_quantity >= ?";
+	private static final String INCREASE_SQL = "update products set stock_quantity = stock_quantity + ?, "
+			+ "version = version + 1 where id = ?";
+	private static final String COMPARE_AND_SET_SQL = "update products set stock_quantity = ?, "
+			+ "version = version + 1 where id = ? and version = ?";
+	private static final String SELECT_STOCK_SQL = "select stock_quantity from products where id = ?";
+	private static final String SELECT_SNAPSHOT_SQL = "select id, stock_quantity, version from products where id = ?";
+	private static final String SELECT_ALL_STOCK_SQL = "select id, stock_quantity from products";
+	// 슬롯 합계를 옮겨 적는 파생 값이므로 version 은 올리지 않는다. 올리면 동시에 진행 중인 상품 수정이 낙관적 락 충돌로 실패한다.
+	private static final String SYNC_FROM_SLOTS_SQL = "update products set stock_quantity = "
+			+ "(select coalesce(sum(s.quantity), 0) from product_stock_slots s where s.product_id = ?) "
+			+ "where id = ? and exists (select 1 from product_stock_slots s where s.product_id = ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final EntityManager entityManager;
+
+	public ProductStockRepositoryImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	public int[] decreaseStock(SortedMap<Long, Integer> quantityByProductId) {
+		List<Object[]> batchArgs = new ArrayList<>(quantityByProductId.size());
+		for (Map.Entry<Long, Integer> entry : quantityByProductId.entrySet()) {
+			batchArgs.add(new Object[]{entry.getValue(), entry.getKey(), entry.getValue()});
+		}
+		int[] updatedRows = jdbcTemplate.batchUpdate(DECREASE_SQL, batchArgs);
+		refreshManaged(quantityByProductId.keySet());
+		return updatedRows;
+	}
+
+	@Override
+	public int[] increaseStock(SortedMap<Long, Integer> quantityByProductId) {
+		List<Object[]> batchArgs = new ArrayList<>(quantityByProductId.size());
+		for (Map.Entry<Long, Integer> entry : quantityByProductId.entrySet()) {
+			batchArgs.add(new Object[]{entry.getValue(), entry.getKey()});
+		}
+		int[] updatedRows = jdbcTemplate.batchUpdate(INCREASE_SQL, batchArgs);
+		refreshManaged(quantityByProductId.keySet());
+		return updatedRows;
+	}
+
+	@Override
+	public Optional<Integer> findStockQuantity(Long productId) {
+		return jdbcTemplate.query(SELECT_STOCK_SQL, (rs, rowNum) -> rs.getInt("stock_quantity"), productId)
+				.stream()
+				.findFirst();
+	}
+
+	@Override
+	public Optional<ProductStockSnapshot> findStockSnapshot(Long productId) {
+		return jdbcTemplate.query(SELECT_SNAPSHOT_SQL, (rs, rowNum) -> new ProductStockSnapshot(
+						rs.getLong("id"),
+						rs.getInt("stock_quantity"),
+						rs.getLong("version")
+				), productId)
+				.stream()
+				.findFirst();
+	}
+
+	@Override
+	public int compareAndSetStock(Long productId, long expectedVersion, int stockQuantity) {
+		int updatedRows = jdbcTemplate.update(COMPARE_AND_SET_SQL, stockQuantity, productId, expectedVersion);
+		refreshManaged(List.of(productId));
+		return updatedRows;
+	}
+
+	@Override
+	public Map<Long, Integer> findAllStockQuantities() {
+		Map<Long, Integer> stockByProductId = new HashMap<>();
+		jdbcTemplate.query(SELECT_ALL_STOCK_SQL, (RowCallbackHandler) rs ->
+				stockByProductId.put(rs.getLong("id"), rs.getInt("stock_quantity")));
+		return stockByProductId;
+	}
+
+	@Override
+	public int[] syncStockFromSlots(Collection<Long> productIds) {
+		List<Object[]> batchArgs = new ArrayList<>(productIds.size());
+		for (Long productId : productIds) {
+			batchArgs.add(new Object[]{productId, productId, productId});
+		}
+		return jdbcTemplate.batchUpdate(SYNC_FROM_SLOTS_SQL, batchArgs);
+	}
+
+	// JDBC 로 바꾼 재고가 같은 영속성 컨텍스트에 이미 로딩된 엔티티에는 반영되지 않으므로 다시 읽어온다.
+	// 아직 초기화되지 않은 프록시는 이후 접근 시 DB 값을 읽으므로 추가 조회 없이 건너뛴다.
+	private void refreshManaged(Collection<Long> productIds) {
+		for (Long productId : productIds) {
+			Product product = entityManager.getReference(Product.class, productId);
+			if (Hibernate.isInitialized(product)) {
+				entityManager.refresh(product);
+			}
+		}
+	}
+}
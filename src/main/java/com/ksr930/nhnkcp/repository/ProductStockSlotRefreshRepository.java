@@ -0,0 +1,8 @@
+package com.ksr930.nhnkcp.repository;
+
+import com.ksr930.nhnkcp.domain.product.ProductStockSlot;
+import java.util.List;
+
+public interface ProductStockSlotRefreshRepository {
+	List<ProductStockSlot> refreshManaged(List<ProductStockSlot> slots);
+}
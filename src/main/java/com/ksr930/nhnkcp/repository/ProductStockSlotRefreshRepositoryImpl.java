@@ -0,0 +1,23 @@
+package com.ksr930.nhnkcp.repository;
+
+import com.ksr930.nhnkcp.domain.product.ProductStockSlot;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+
+public class ProductStockSlotRefreshRepositoryImpl implements ProductStockSlotRefreshRepository {
+	private final EntityManager entityManager;
+
+	public ProductStockSlotRefreshRepositoryImpl(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	// 벌크 UPDATE 는 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션에서 먼저 로딩된 슬롯은 이전 수량을 들고 있다.
+	// 컨텍스트 전체를 비우면 호출자가 쥔 주문/상품까지 분리되므로, 수량을 직접 고치기 전에 해당 슬롯만 다시 읽는다.
+	@Override
+	public List<ProductStockSlot> refreshManaged(List<ProductStockSlot> slots) {
+		for (ProductStockSlot slot : slots) {
+			entityManager.refresh(slot);
+		}
+		return slots;
+	}
+}
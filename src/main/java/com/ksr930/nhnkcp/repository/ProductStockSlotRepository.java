@@ -0,0 +1,48 @@
+package com.ksr930.nhnkcp.repository;
+
+import com.ksr930.nhnkcp.domain.product.ProductStockSlot;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface ProductStockSlotRepository
+		extends JpaRepository<ProductStockSlot, Long>, ProductStockSlotRefreshRepository {
+	boolean existsByProductId(Long productId);
+
+	// 같은 트랜잭션에서 바꾼 슬롯 엔티티를 먼저 flush 한다. 컨텍스트는 비우지 않으며, 이후 슬롯을 직접 고치는 쪽이 refreshManaged 로 다시 읽는다.
+	@Modifying(flushAutomatically = true)
+	@Query("update ProductStockSlot s set s.quantity = s.quantity - :quantity "
+			+ "where s.productId = :productId and s.slot = :slot and s.quantity >= :quantity")
+	int decreaseSlot(@Param("productId") Long productId, @Param("slot") int slot, @Param("quantity") int quantity);
+
+	@Modifying(flushAutomatically = true)
+	@Query("update ProductStockSlot s set s.quantity = s.quantity + :quantity "
+			+ "where s.productId = :productId and s.slot = :slot")
+	int increaseSlot(@Param("productId") Long productId, @Param("slot") int slot, @Param("quantity") int quantity);
+
+	@Query("select s.slot from ProductStockSlot s where s.productId = :productId order by s.quantity asc, s.slot asc")
+	List<Integer> findSlotsOrderByQuantity(@Param("productId") Long productId, Pageable pageable);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+	@Query("select s from ProductStockSlot s where s.productId = :productId order by s.slot")
+	List<ProductStockSlot> findAllByProductIdForUpdate(@Param("productId") Long productId);
+
+	@Query("select s.productId as productId, sum(s.quantity) as quantity from ProductStockSlot s "
+			+ "where s.productId in :productIds group by s.productId")
+	List<StockTotal> sumQuantityByProductIds(@Param("productIds") Collection<Long> productIds);
+
+	interface StockTotal {
+		Long getProductId();
+
+		Long getQuantity();
+	}
+}
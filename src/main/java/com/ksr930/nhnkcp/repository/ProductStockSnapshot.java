@@ -0,0 +1,8 @@
+package com.ksr930.nhnkcp.repository;
+
+public record ProductStockSnapshot(
+		Long productId,
+		int stockQuantity,
+		long version
+) {
+}
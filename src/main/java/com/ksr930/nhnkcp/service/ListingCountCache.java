@@ -0,0 +1,47 @@
+package com.ksr930.nhnkcp.service;
+
+import com.ksr930.nhnkcp.config.ListingProperties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 조회의 전체 건수를 조건별로 TTL 동안 캐시한다. 만료 전까지는 근사값이다.
+ */
+@Component
+public class ListingCountCache {
+	private final ConcurrentHashMap<String, CachedCount> counts = new ConcurrentHashMap<>();
+	private final ListingProperties listingProperties;
+
+	public ListingCountCache(ListingProperties listingProperties) {
+		this.listingProperties = listingProperties;
+	}
+
+	public <T> Page<T> toPage(Slice<T> slice, Pageable pageable, String key, LongSupplier counter) {
+		return new PageImpl<>(slice.getContent(), pageable, count(key, counter));
+	}
+
+	private long count(String key, LongSupplier counter) {
+		long now = System.nanoTime();
+		CachedCount cached = counts.get(key);
+		if (cached != null && now - cached.expiresAt() < 0) {
+			return cached.total();
+		}
+		long total = counter.getAsLong();
+		if (counts.size() >= listingProperties.countCacheMaxEntries()) {
+			counts.values().removeIf(entry -> now - entry.expiresAt() >= 0);
+			if (counts.size() >= listingProperties.countCacheMaxEntries()) {
+				counts.clear();
+			}
+		}
+		counts.put(key, new CachedCount(total, now + listingProperties.countCacheTtl().toNanos()));
+		return total;
+	}
+
+	private record CachedCount(long total, long expiresAt) {
+	}
+}
@@ -0,0 +1,71 @@
+package com.ksr930.nhnkcp.service;
+
+import com.ksr930.nhnkcp.config.ExportProperties;
+import com.ksr930.nhnkcp.dto.order.ExportFormat;
+import com.ksr930.nhnkcp.dto.order.OrderExportFilter;
+import com.ksr930.nhnkcp.repository.OrderExportRepository;
+import com.ksr930.nhnkcp.repository.OrderExportRepository.OrderExportRow;
+import com.ksr930.nhnkcp.service.export.OrderExportWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+@Service
+public class OrderExportService {
+	private final OrderExportRepository orderExportRepository;
+	private final Map<ExportFormat, OrderExportWriter> writers = new EnumMap<>(ExportFormat.class);
+	private final int bufferSize;
+	private final int chunkSize;
+
+	public OrderExportService(
+			OrderExportRepository orderExportRepository,
+			List<OrderExportWriter> writers,
+			ExportProperties properties
+	) {
+		this.orderExportRepository = orderExportRepository;
+		for (OrderExportWriter writer : writers) {
+			this.writers.put(writer.format(), writer);
+		}
+		this.bufferSize = properties.bufferSize();
+		this.chunkSize = properties.chunkSize();
+	}
+
+	public MediaType mediaType(ExportFormat format) {
+		return writers.get(format).mediaType();
+	}
+
+	/**
+	 * 조건에 맞는 주문을 out 으로 바로 기록한다. 주문 ID 키셋 청크마다 짧은 조회로 읽고, 커넥션을 돌려준 뒤 기록한다.
+	 * 청크 사이에 하나의 스냅숏을 보장하지 않으므로, 내보내는 동안 바뀐 주문은 바뀐 상태로 나갈 수 있다.
+	 * out 은 닫지 않는다.
+	 */
+	public void export(ExportFormat format, OrderExportFilter filter, OutputStream out) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSize);
+		OrderExportWriter.Sink sink = writers.get(format).open(writer);
+		long afterOrderId = 0;
+		while (true) {
+			List<OrderExportRow> rows = orderExportRepository.findChunk(filter, afterOrderId, chunkSize);
+			int orders = 0;
+			for (OrderExportRow row : rows) {
+				if (row.orderId() != afterOrderId) {
+					afterOrderId = row.orderId();
+					orders++;
+				}
+				sink.write(row);
+			}
+			if (orders < chunkSize) {
+				break;
+			}
+		}
+		sink.finish();
+		writer.flush();
+	}
+}
@@ -1,48 +1,77 @@
 package com.ksr930.nhnkcp.service;
 
+import com.ksr930.nhnkcp.aop.RetryOnOptimisticLock;
 import com.ksr930.nhnkcp.domain.order.OrderStatus;
 import com.ksr930.nhnkcp.domain.order.Order;
 import com.ksr930.nhnkcp.domain.order.OrderItem;
 import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.dto.CountMode;
+import com.ksr930.nhnkcp.dto.CursorPage;
 import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderCursor;
+import com.ksr930.nhnkcp.dto.order.OrderFields;
 import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
 import com.ksr930.nhnkcp.dto.order.OrderItemResponse;
 import com.ksr930.nhnkcp.dto.order.OrderResponse;
 import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
 import com.ksr930.nhnkcp.exception.ApiException;
 import com.ksr930.nhnkcp.exception.ErrorCode;
+import com.ksr930.nhnkcp.monitoring.OrderMetrics;
+import com.ksr930.nhnkcp.monitoring.jfr.OrderCreatedEvent;
+import com.ksr930.nhnkcp.monitoring.jfr.OrderStatusTransitionEvent;
+import com.ksr930.nhnkcp.repository.OrderItemRow;
 import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.OrderRow;
+import com.ksr930.nhnkcp.service.cache.TerminalOrderCache;
 import com.ksr930.nhnkcp.service.status.OrderStatusHandler;
+import com.ksr930.nhnkcp.service.status.OrderStatusTransitionTable;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class OrderService {
+	private static final int MAX_SCROLL_SIZE = 100;
+
 	private final OrderRepository orderRepository;
-	private final Map<OrderStatus, OrderStatusHandler> statusHandlers;
+	private final OrderStatusTransitionTable transitionTable;
 	private final StockService stockService;
+	private final ListingCountCache listingCountCache;
+	private final TerminalOrderCache terminalOrderCache;
+	private final ProductNameCache productNameCache;
+	private final OrderMetrics orderMetrics;
 
 	public OrderService(
 			OrderRepository orderRepository,
-			List<OrderStatusHandler> handlers,
-			StockService stockService
+			OrderStatusTransitionTable transitionTable,
+			StockService stockService,
+			ListingCountCache listingCountCache,
+			TerminalOrderCache terminalOrderCache,
+			ProductNameCache productNameCache,
+			OrderMetrics orderMetrics
 	) {
 		this.orderRepository = orderRepository;
-		this.statusHandlers = handlers.stream()
-				.collect(Collectors.toUnmodifiableMap(OrderStatusHandler::status, Function.identity()));
+		this.transitionTable = transitionTable;
 		this.stockService = stockService;
+		this.listingCountCache = listingCountCache;
+		this.terminalOrderCache = terminalOrderCache;
+		this.productNameCache = productNameCache;
+		this.orderMetrics = orderMetrics;
 	}
 
 	@Transactional
 	public OrderResponse create(OrderCreateRequest request) {
+		OrderCreatedEvent event = new OrderCreatedEvent();
+		event.begin();
 		if (request.items() == null || request.items().isEmpty()) {
 			throw new ApiException(ErrorCode.INVALID_REQUEST);
 		}
@@ -61,10 +90,13 @@ public class OrderService {
 				.sorted()
 				.collect(Collectors.toList());
 
+		// 재고 확인은 락 없는 스냅샷 조회로 충분하다. 실제 차감은 COMPLETED 전이에서 조건부 UPDATE 로 다시 검증된다.
+		Map<Long, Product> products = stockService.getProducts(sortedProductIds);
+		Map<Long, Integer> stockByProductId = stockService.currentStocks(products.values());
 		for (Long productId : sortedProductIds) {
-			Product product = stockService.getProduct(productId);
+			Product product = products.get(productId);
 			int quantity = quantityByProductId.get(productId);
-			if (product.getStockQuantity() < quantity) {
+			if (stockByProductId.get(productId) < quantity) {
 				throw new ApiException(ErrorCode.OUT_OF_STOCK);
 			}
 			OrderItem item = new OrderItem();
@@ -76,54 +108,266 @@ public class OrderService {
 		}
 
 		Order saved = orderRepository.save(order);
+		orderMetrics.orderCreated();
+		event.end();
+		if (event.shouldCommit()) {
+			event.orderId = saved.getId();
+			event.itemCount = saved.getItems().size();
+			event.totalQuantity = quantityByProductId.values().stream().mapToInt(Integer::intValue).sum();
+			event.commit();
+		}
 		return toResponse(saved);
 	}
 
+	@RetryOnOptimisticLock
 	@Transactional
 	public OrderResponse updateStatus(Long id, OrderStatusUpdateRequest request) {
 		if (request.status() == null) {
 			throw new ApiException(ErrorCode.INVALID_REQUEST);
 		}
-		Order order = orderRepository.findById(id)
+		OrderStatus from = orderRepository.findStatusById(id)
 				.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
-		OrderStatus from = order.getStatus();
 		OrderStatus to = request.status();
-
-		OrderStatusHandler handler = statusHandlers.get(from);
-		if (handler == null || !handler.canTransitionTo(to)) {
+		if (!transitionTable.canTransition(from, to)) {
 			throw new ApiException(ErrorCode.INVALID_STATUS_CHANGE);
 		}
 
-		handler.onTransition(order, to);
+		// 읽은 상태가 그대로일 때만 전이한다. 동시 요청에 먼저 전이되었다면 부수 효과 없이 실패한다.
+		if (orderRepository.updateStatus(id, from, to, LocalDateTime.now()) == 0) {
+			throw new ApiException(ErrorCode.INVALID_STATUS_CHANGE);
+		}
+		OrderStatusHandler handler = transitionTable.handler(from);
+		OrderStatusTransitionEvent event = new OrderStatusTransitionEvent();
+		event.begin();
+		handler.onTransition(id, to);
+		event.end();
+		if (event.shouldCommit()) {
+			event.orderId = id;
+			event.from = from.name();
+			event.to = to.name();
+			event.handler = handler.getClass().getSimpleName();
+			event.commit();
+		}
+		if (TerminalOrderCache.isCacheable(from)) {
+			terminalOrderCache.invalidateAfterCommit(id);
+		}
+		orderMetrics.transitioned(from, to);
 
-		order.setStatus(to);
-		order.setUpdatedAt(LocalDateTime.now());
-		return toResponse(order);
+		// 응답은 엔티티 fetch join 대신 목록 조회와 같은 주문 행 + 항목 행 프로젝션으로 만든다.
+		OrderRow row = orderRepository.findRowById(id)
+				.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
+		return toResponse(row, findItemsByOrderId(List.of(row)).getOrDefault(id, List.of()));
 	}
 
-	@Transactional(readOnly = true)
+	// 조회는 fetch join 한 번으로 끝나므로 트랜잭션을 열지 않는다.
+	// 캐시 적중 시에는 상품명만 붙이며, 상품명 캐시까지 적중하면 커넥션도 잡지 않는다.
 	public OrderResponse get(Long id) {
+		OrderResponse cached = terminalOrderCache.get(id);
+		if (cached != null) {
+			return withProductNames(cached);
+		}
+		long epoch = terminalOrderCache.epoch(id);
 		Order order = orderRepository.findByIdWithItems(id)
 				.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
-		return toResponse(order);
+		OrderResponse response = toResponse(order);
+		terminalOrderCache.put(response, epoch);
+		return response;
+	}
+
+	public OrderResponse get(Long id, OrderFields fields) {
+		if (fields == OrderFields.FULL) {
+			return get(id);
+		}
+		OrderResponse cached = terminalOrderCache.get(id);
+		if (cached != null) {
+			return new OrderResponse(cached.id(), cached.status(), cached.createdAt(), cached.updatedAt(), null);
+		}
+		OrderRow row = orderRepository.findRowById(id)
+				.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
+		return toResponse(row, null);
 	}
 
 	@Transactional(readOnly = true)
-	public Page<OrderResponse> list(Pageable pageable) {
-		return orderRepository.findAll(pageable).map(this::toResponse);
+	public Slice<OrderResponse> list(Pageable pageable, CountMode count, OrderFields fields) {
+		return switch (count) {
+			case EXACT -> toRowResponses(orderRepository.findRowsBy(pageable), fields);
+			case NONE -> toRowResponses(orderRepository.findRowSliceBy(pageable), fields);
+			case CACHED -> listingCountCache.toPage(
+					toRowResponses(orderRepository.findRowSliceBy(pageable), fields),
+					pageable,
+					"orders",
+					orderRepository::count
+			);
+		};
 	}
 
 	@Transactional(readOnly = true)
-	public Page<OrderResponse> listByStatus(OrderStatus status, Pageable pageable) {
-		return orderRepository.findAllByStatus(status, pageable).map(this::toResponse);
+	public Slice<OrderResponse> listByStatus(
+			OrderStatus status,
+			Pageable pageable,
+			CountMode count,
+			OrderFields fields
+	) {
+		return switch (count) {
+			case EXACT -> toRowResponses(orderRepository.findRowsByStatus(status, pageable), fields);
+			case NONE -> toRowResponses(orderRepository.findRowSliceByStatus(status, pageable), fields);
+			case CACHED -> listingCountCache.toPage(
+					toRowResponses(orderRepository.findRowSliceByStatus(status, pageable), fields),
+					pageable,
+					"orders:status:" + status,
+					() -> orderRepository.countByStatus(status)
+			);
+		};
 	}
 
 	@Transactional(readOnly = true)
-	public Page<OrderResponse> listByPeriod(LocalDateTime start, LocalDateTime end, Pageable pageable) {
-		return orderRepository.findAllByCreatedAtBetween(start, end, pageable).map(this::toResponse);
+	public Slice<OrderResponse> listByPeriod(
+			LocalDateTime start,
+			LocalDateTime end,
+			Pageable pageable,
+			CountMode count,
+			OrderFields fields
+	) {
+		return switch (count) {
+			case EXACT -> toRowResponses(orderRepository.findRowsByCreatedAtBetween(start, end, pageable), fields);
+			case NONE -> toRowResponses(orderRepository.findRowSliceByCreatedAtBetween(start, end, pageable), fields);
+			case CACHED -> listingCountCache.toPage(
+					toRowResponses(orderRepository.findRowSliceByCreatedAtBetween(start, end, pageable), fields),
+					pageable,
+					"orders:period:" + start + ":" + end,
+					() -> orderRepository.countByCreatedAtBetween(start, end)
+			);
+		};
+	}
+
+	/**
+	 * (createdAt, id) 내림차순 키셋 페이지네이션. OFFSET 과 COUNT 없이 인덱스에서 커서 다음 위치부터 읽는다.
+	 */
+	@Transactional(readOnly = true)
+	public CursorPage<OrderResponse> scroll(
+			OrderStatus status,
+			LocalDateTime start,
+			LocalDateTime end,
+			String cursor,
+			int size
+	) {
+		if (size < 1 || size > MAX_SCROLL_SIZE) {
+			throw new ApiException(ErrorCode.INVALID_REQUEST);
+		}
+		// 다음 페이지 존재 여부를 COUNT 없이 판단하기 위해 한 건 더 읽는다.
+		Pageable limit = PageRequest.of(0, size + 1);
+		OrderCursor after = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+		List<Long> ids;
+		if (status != null) {
+			ids = after == null
+					? orderRepository.findIdsByStatusLatestFirst(status, limit)
+					: orderRepository.findIdsByStatusAfterCursor(status, after.createdAt(), after.id(), limit);
+		} else if (start != null && end != null) {
+			ids = after == null
+					? orderRepository.findIdsByCreatedAtBetweenLatestFirst(start, end, limit)
+					: orderRepository.findIdsByCreatedAtBetweenAfterCursor(
+							start, end, after.createdAt(), after.id(), limit);
+		} else {
+			ids = after == null
+					? orderRepository.findIdsLatestFirst(limit)
+					: orderRepository.findIdsAfterCursor(after.createdAt(), after.id(), limit);
+		}
+
+		boolean hasNext = ids.size() > size;
+		List<Order> content = findAllWithItemsInOrder(hasNext ? ids.subList(0, size) : ids);
+		String nextCursor = null;
+		if (hasNext && !content.isEmpty()) {
+			Order last = content.get(content.size() - 1);
+			nextCursor = new OrderCursor(last.getCreatedAt(), last.getId()).encode();
+		}
+		List<OrderResponse> responses = content.stream()
+				.map(OrderService::toResponse)
+				.collect(Collectors.toList());
+		return new CursorPage<>(responses, size, hasNext, nextCursor);
+	}
+
+	// 1단계에서 정한 ID 순서를 유지하며, 항목과 상품은 2단계 fetch join 한 번으로 채운다.
+	private List<Order> findAllWithItemsInOrder(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		Map<Long, Order> ordersById = orderRepository.findAllWithItemsByIdIn(ids)
+				.stream()
+				.collect(Collectors.toMap(Order::getId, Function.identity()));
+		List<Order> orders = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			Order order = ordersById.get(id);
+			if (order != null) {
+				orders.add(order);
+			}
+		}
+		return orders;
+	}
+
+	// Page 도 Slice 이며 map 은 원래 종류를 유지하므로 EXACT 결과는 그대로 Page 로 나간다.
+	private Slice<OrderResponse> toRowResponses(Slice<OrderRow> rows, OrderFields fields) {
+		return rows.map(toRowResponse(rows.getContent(), fields));
+	}
+
+	// 목록 조회는 엔티티를 거치지 않고 주문 행과 (주문, 상품) 평면 행 두 쿼리로 응답을 만든다.
+	// SUMMARY 는 두 번째 쿼리를 생략하고 items 를 비워 둔다.
+	private Function<OrderRow, OrderResponse> toRowResponse(List<OrderRow> rows, OrderFields fields) {
+		if (fields == OrderFields.SUMMARY) {
+			return row -> toResponse(row, null);
+		}
+		Map<Long, List<OrderItemResponse>> itemsByOrderId = findItemsByOrderId(rows);
+		return row -> toResponse(row, itemsByOrderId.getOrDefault(row.id(), List.of()));
+	}
+
+	private Map<Long, List<OrderItemResponse>> findItemsByOrderId(List<OrderRow> rows) {
+		if (rows.isEmpty()) {
+			return Map.of();
+		}
+		List<Long> orderIds = rows.stream()
+				.map(OrderRow::id)
+				.collect(Collectors.toList());
+		Map<Long, List<OrderItemResponse>> itemsByOrderId = new HashMap<>();
+		for (OrderItemRow item : orderRepository.findItemRowsByOrderIdIn(orderIds)) {
+			itemsByOrderId.computeIfAbsent(item.orderId(), id -> new ArrayList<>())
+					.add(new OrderItemResponse(
+							item.productId(),
+							item.productName(),
+							item.unitPrice(),
+							item.quantity()
+					));
+		}
+		return itemsByOrderId;
+	}
+
+	// items 가 null 이면 SUMMARY 응답이다.
+	private OrderResponse toResponse(OrderRow row, List<OrderItemResponse> items) {
+		return new OrderResponse(
+				row.id(),
+				row.status(),
+				row.createdAt(),
+				row.updatedAt(),
+				items
+		);
+	}
+
+	private OrderResponse withProductNames(OrderResponse cached) {
+		Map<Long, String> nameByProductId = productNameCache.namesOf(cached.items().stream()
+				.map(OrderItemResponse::productId)
+				.collect(Collectors.toSet()));
+		List<OrderItemResponse> items = new ArrayList<>(cached.items().size());
+		for (OrderItemResponse item : cached.items()) {
+			items.add(new OrderItemResponse(
+					item.productId(),
+					nameByProductId.get(item.productId()),
+					item.price(),
+					item.quantity()
+			));
+		}
+		return new OrderResponse(cached.id(), cached.status(), cached.createdAt(), cached.updatedAt(), items);
 	}
 
-	private OrderResponse toResponse(Order order) {
+	// JMH 벤치마크(src/jmh)에서 DB 없이 매핑 비용만 측정할 수 있도록 패키지 범위로 둔다.
+	static OrderResponse toResponse(Order order) {
 		java.util.List<OrderItemResponse> items = new java.util.ArrayList<>();
 		for (OrderItem item : order.getItems()) {
 			OrderItemResponse itemResponse = new OrderItemResponse(
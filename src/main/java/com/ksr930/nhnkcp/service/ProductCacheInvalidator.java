@@ -0,0 +1,66 @@
+package com.ksr930.nhnkcp.service;
+
+import com.ksr930.nhnkcp.config.CacheConfig;
+import com.ksr930.nhnkcp.config.ProductCacheProperties;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 캐시 무효화. 커밋 전에 지우면 다른 요청이 커밋 전 값을 다시 채울 수 있으므로 커밋 이후에 지운다.
+ */
+@Component
+public class ProductCacheInvalidator {
+	private final Cache productCache;
+	private final Cache productPageCache;
+	private final Cache productNameCache;
+	private final ProductCacheProperties properties;
+
+	public ProductCacheInvalidator(CacheManager cacheManager, ProductCacheProperties properties) {
+		this.productCache = cacheManager.getCache(CacheConfig.PRODUCT);
+		this.productPageCache = cacheManager.getCache(CacheConfig.PRODUCT_PAGES);
+		this.productNameCache = cacheManager.getCache(CacheConfig.PRODUCT_NAMES);
+		this.properties = properties;
+	}
+
+	public void productChanged(Long productId) {
+		afterCommit(() -> {
+			evict(List.of(productId));
+			productNameCache.evict(productId);
+		});
+	}
+
+	public void productAdded() {
+		afterCommit(() -> evict(List.of()));
+	}
+
+	public void stockChanged(Collection<Long> productIds) {
+		if (properties.evictOnStockChange()) {
+			List<Long> changed = List.copyOf(productIds);
+			afterCommit(() -> evict(changed));
+		}
+	}
+
+	private void afterCommit(Runnable eviction) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			eviction.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				eviction.run();
+			}
+		});
+	}
+
+	private void evict(Collection<Long> productIds) {
+		productIds.forEach(productCache::evict);
+		// 목록 페이지는 어떤 상품을 담고 있는지 알 수 없으므로 전부 비운다.
+		productPageCache.clear();
+	}
+}
@@ -0,0 +1,48 @@
+package com.ksr930.nhnkcp.service;
+
+import com.ksr930.nhnkcp.config.CacheConfig;
+import com.ksr930.nhnkcp.repository.ProductName;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 ID → 상품명. 이름은 바뀔 수 있으므로 캐시된 주문 응답에 붙여 두지 않고 조회 시점에 여기서 채운다.
+ * 상품이 바뀌면 {@link ProductCacheInvalidator} 가 커밋 후 지운다.
+ */
+@Component
+public class ProductNameCache {
+	private final Cache names;
+	private final ProductRepository productRepository;
+
+	public ProductNameCache(CacheManager cacheManager, ProductRepository productRepository) {
+		this.names = cacheManager.getCache(CacheConfig.PRODUCT_NAMES);
+		this.productRepository = productRepository;
+	}
+
+	public Map<Long, String> namesOf(Collection<Long> productIds) {
+		Map<Long, String> nameByProductId = new HashMap<>();
+		List<Long> missing = new ArrayList<>();
+		for (Long productId : productIds) {
+			String name = names.get(productId, String.class);
+			if (name != null) {
+				nameByProductId.put(productId, name);
+			} else {
+				missing.add(productId);
+			}
+		}
+		if (!missing.isEmpty()) {
+			for (ProductName product : productRepository.findNamesByIdIn(missing)) {
+				names.put(product.productId(), product.name());
+				nameByProductId.put(product.productId(), product.name());
+			}
+		}
+		return nameByProductId;
+	}
+}
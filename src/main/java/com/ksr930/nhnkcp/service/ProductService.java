@@ -1,31 +1,49 @@
 package com.ksr930.nhnkcp.service;
 
+import com.ksr930.nhnkcp.config.CacheConfig;
 import com.ksr930.nhnkcp.domain.product.Category;
 import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.dto.CountMode;
 import com.ksr930.nhnkcp.dto.product.ProductRequest;
 import com.ksr930.nhnkcp.dto.product.ProductResponse;
 import com.ksr930.nhnkcp.exception.ApiException;
 import com.ksr930.nhnkcp.exception.ErrorCode;
 import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.util.Map;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ProductService {
 	private final ProductRepository productRepository;
+	private final StockService stockService;
+	private final ListingCountCache listingCountCache;
+	private final ProductCacheInvalidator productCacheInvalidator;
 
-	public ProductService(ProductRepository productRepository) {
+	public ProductService(
+			ProductRepository productRepository,
+			StockService stockService,
+			ListingCountCache listingCountCache,
+			ProductCacheInvalidator productCacheInvalidator
+	) {
 		this.productRepository = productRepository;
+		this.stockService = stockService;
+		this.listingCountCache = listingCountCache;
+		this.productCacheInvalidator = productCacheInvalidator;
 	}
 
 	@Transactional
 	public ProductResponse create(ProductRequest request) {
 		Product product = new Product();
 		applyRequest(product, request);
+		product.setStockQuantity(request.stockQuantity());
 		Product saved = productRepository.save(product);
-		return toResponse(saved);
+		productCacheInvalidator.productAdded();
+		return toResponse(saved, request.stockQuantity());
 	}
 
 	@Transactional
@@ -33,9 +51,12 @@ public class ProductService {
 		Product product = productRepository.findById(id)
 				.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
 		applyRequest(product, request);
-		return toResponse(product);
+		stockService.replaceStock(product, request.stockQuantity());
+		productCacheInvalidator.productChanged(id);
+		return toResponse(product, request.stockQuantity());
 	}
 
+	@Cacheable(cacheNames = CacheConfig.PRODUCT, key = "#id")
 	@Transactional(readOnly = true)
 	public ProductResponse get(Long id) {
 		Product product = productRepository.findById(id)
@@ -43,29 +64,65 @@ public class ProductService {
 		return toResponse(product);
 	}
 
+	// 정확한 건수를 담은 EXACT 페이지만 캐시한다. 건수를 생략하거나 캐시된 건수를 쓰는 방식은 이미 COUNT 를 아낀다.
+	@Cacheable(cacheNames = CacheConfig.PRODUCT_PAGES, key = "{'all', #pageable}",
+			condition = "#count == T(com.ksr930.nhnkcp.dto.CountMode).EXACT")
 	@Transactional(readOnly = true)
-	public Page<ProductResponse> list(Pageable pageable) {
-		return productRepository.findAll(pageable).map(this::toResponse);
+	public Slice<ProductResponse> list(Pageable pageable, CountMode count) {
+		return switch (count) {
+			case EXACT -> toResponses(productRepository.findAll(pageable));
+			case NONE -> toResponses(productRepository.findSliceBy(pageable));
+			case CACHED -> listingCountCache.toPage(
+					toResponses(productRepository.findSliceBy(pageable)),
+					pageable,
+					"products",
+					productRepository::count
+			);
+		};
 	}
 
+	@Cacheable(cacheNames = CacheConfig.PRODUCT_PAGES, key = "{#category, #pageable}",
+			condition = "#count == T(com.ksr930.nhnkcp.dto.CountMode).EXACT")
 	@Transactional(readOnly = true)
-	public Page<ProductResponse> listByCategory(Category category, Pageable pageable) {
-		return productRepository.findAllByCategory(category, pageable).map(this::toResponse);
+	public Slice<ProductResponse> listByCategory(Category category, Pageable pageable, CountMode count) {
+		return switch (count) {
+			case EXACT -> toResponses(productRepository.findAllByCategory(category, pageable));
+			case NONE -> toResponses(productRepository.findSliceByCategory(category, pageable));
+			case CACHED -> listingCountCache.toPage(
+					toResponses(productRepository.findSliceByCategory(category, pageable)),
+					pageable,
+					"products:category:" + category,
+					() -> productRepository.countByCategory(category)
+			);
+		};
 	}
 
 	private void applyRequest(Product product, ProductRequest request) {
 		product.setName(request.name());
 		product.setPrice(request.price());
-		product.setStockQuantity(request.stockQuantity());
 		product.setCategory(request.category());
 	}
 
+	private Page<ProductResponse> toResponses(Page<Product> products) {
+		Map<Long, Integer> stockByProductId = stockService.currentStocks(products.getContent());
+		return products.map(product -> toResponse(product, stockByProductId.get(product.getId())));
+	}
+
+	private Slice<ProductResponse> toResponses(Slice<Product> products) {
+		Map<Long, Integer> stockByProductId = stockService.currentStocks(products.getContent());
+		return products.map(product -> toResponse(product, stockByProductId.get(product.getId())));
+	}
+
 	private ProductResponse toResponse(Product product) {
+		return toResponse(product, stockService.currentStock(product));
+	}
+
+	private ProductResponse toResponse(Product product, int stockQuantity) {
 		return new ProductResponse(
 				product.getId(),
 				product.getName(),
 				product.getPrice(),
-				product.getStockQuantity(),
+				stockQuantity,
 				product.getCategory()
 		);
 	}
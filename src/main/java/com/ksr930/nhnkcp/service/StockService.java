@@ -1,42 +1,138 @@
 package com.ksr930.nhnkcp.service;
 
-import com.ksr930.nhnkcp.domain.order.OrderItem;
+import com.ksr930.nhnkcp.config.StockProperties;
 import com.ksr930.nhnkcp.domain.product.Product;
 import com.ksr930.nhnkcp.exception.ApiException;
 import com.ksr930.nhnkcp.exception.ErrorCode;
+import com.ksr930.nhnkcp.monitoring.TransactionWatchdog;
+import com.ksr930.nhnkcp.monitoring.jfr.StockMutationEvent;
+import com.ksr930.nhnkcp.repository.ItemQuantity;
+import com.ksr930.nhnkcp.repository.OrderRepository;
 import com.ksr930.nhnkcp.repository.ProductRepository;
+import com.ksr930.nhnkcp.service.stock.StockEngine;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 @Service
 public class StockService {
 	private final ProductRepository productRepository;
+	private final OrderRepository orderRepository;
+	private final StockEngine stockEngine;
+	private final ProductCacheInvalidator productCacheInvalidator;
+	private final TransactionWatchdog transactionWatchdog;
 
-	public StockService(ProductRepository productRepository) {
+	public StockService(
+			ProductRepository productRepository,
+			OrderRepository orderRepository,
+			List<StockEngine> engines,
+			StockProperties stockProperties,
+			ProductCacheInvalidator productCacheInvalidator,
+			TransactionWatchdog transactionWatchdog
+	) {
 		this.productRepository = productRepository;
+		this.orderRepository = orderRepository;
+		this.productCacheInvalidator = productCacheInvalidator;
+		this.transactionWatchdog = transactionWatchdog;
+		this.stockEngine = engines.stream()
+				.filter(engine -> engine.mode() == stockProperties.mode())
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException("No stock engine for mode " + stockProperties.mode()));
 	}
 
-	public Product getProduct(Long productId) {
-		return productRepository.findByIdForUpdate(productId)
-				.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
+	public Map<Long, Product> getProducts(Collection<Long> productIds) {
+		Map<Long, Product> products = productRepository.findAllById(productIds)
+				.stream()
+				.collect(Collectors.toMap(Product::getId, Function.identity()));
+		if (products.size() != productIds.size()) {
+			throw new ApiException(ErrorCode.NOT_FOUND);
+		}
+		return products;
+	}
+
+	public int currentStock(Product product) {
+		return stockEngine.currentStock(product);
+	}
+
+	public Map<Long, Integer> currentStocks(Collection<Product> products) {
+		return stockEngine.currentStocks(products);
+	}
+
+	public void replaceStock(Product product, int stockQuantity) {
+		StockMutationEvent event = new StockMutationEvent();
+		event.begin();
+		stockEngine.replaceStock(product, stockQuantity);
+		commit(event, "REPLACE", null, Map.of(product.getId(), stockQuantity));
+		transactionWatchdog.productsLocked(List.of(product.getId()));
+		productCacheInvalidator.stockChanged(List.of(product.getId()));
+	}
+
+	public void decreaseForOrder(Long orderId) {
+		transactionWatchdog.orderInvolved(orderId);
+		decrease(orderId, quantityByProductId(orderId));
+	}
+
+	public void restoreForOrder(Long orderId) {
+		transactionWatchdog.orderInvolved(orderId);
+		restore(orderId, quantityByProductId(orderId));
+	}
+
+	public void decrease(Map<Long, Integer> quantityByProductId) {
+		decrease(null, quantityByProductId);
+	}
+
+	public void restore(Map<Long, Integer> quantityByProductId) {
+		restore(null, quantityByProductId);
+	}
+
+	private void decrease(Long orderId, Map<Long, Integer> quantityByProductId) {
+		StockMutationEvent event = new StockMutationEvent();
+		event.begin();
+		stockEngine.decrease(new TreeMap<>(quantityByProductId));
+		commit(event, "DECREASE", orderId, quantityByProductId);
+		stockChanged(quantityByProductId.keySet());
+	}
+
+	private void restore(Long orderId, Map<Long, Integer> quantityByProductId) {
+		StockMutationEvent event = new StockMutationEvent();
+		event.begin();
+		stockEngine.restore(new TreeMap<>(quantityByProductId));
+		commit(event, "RESTORE", orderId, quantityByProductId);
+		stockChanged(quantityByProductId.keySet());
+	}
+
+	private void stockChanged(Set<Long> productIds) {
+		if (stockEngine.holdsRowLocks()) {
+			transactionWatchdog.productsLocked(productIds);
+		}
+		productCacheInvalidator.stockChanged(productIds);
 	}
 
-	public void decrease(List<OrderItem> items) {
-		for (OrderItem item : items) {
-			Product product = productRepository.findByIdForUpdate(item.getProduct().getId())
-					.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
-			if (product.getStockQuantity() < item.getQuantity()) {
-				throw new ApiException(ErrorCode.OUT_OF_STOCK);
-			}
-			product.setStockQuantity(product.getStockQuantity() - item.getQuantity());
+	// JFR 기록이 꺼져 있으면 shouldCommit 이 false 라 필드 계산도 하지 않는다.
+	private void commit(StockMutationEvent event, String operation, Long orderId, Map<Long, Integer> quantityByProductId) {
+		event.end();
+		if (event.shouldCommit()) {
+			event.operation = operation;
+			event.mode = stockEngine.mode().name();
+			event.orderId = orderId == null ? 0 : orderId;
+			event.productCount = quantityByProductId.size();
+			event.totalQuantity = quantityByProductId.values().stream().mapToInt(Integer::intValue).sum();
+			event.commit();
 		}
 	}
 
-	public void restore(List<OrderItem> items) {
-		for (OrderItem item : items) {
-			Product product = productRepository.findByIdForUpdate(item.getProduct().getId())
-					.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
-			product.setStockQuantity(product.getStockQuantity() + item.getQuantity());
+	// 엔티티 그래프 대신 (상품 ID, 수량) 프로젝션만 읽어 상품 ID 오름차순으로 합산한다.
+	private SortedMap<Long, Integer> quantityByProductId(Long orderId) {
+		SortedMap<Long, Integer> quantityByProductId = new TreeMap<>();
+		for (ItemQuantity item : orderRepository.findItemQuantities(orderId)) {
+			quantityByProductId.merge(item.productId(), item.quantity(), Integer::sum);
 		}
+		return quantityByProductId;
 	}
 }
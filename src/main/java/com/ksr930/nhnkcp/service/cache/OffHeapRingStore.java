@@ -0,0 +1,137 @@
+package com.ksr930.nhnkcp.service.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * direct {@link ByteBuffer} 세그먼트를 링으로 돌려 쓰는 키-바이트 저장소.
+ * 쓰기는 현재 세그먼트 뒤에 덧붙이고, 세그먼트가 차면 다음 세그먼트를 비우고(세대 증가) 재사용한다.
+ * 인덱스는 (세그먼트, 오프셋, 세대) 만 힙에 두고, 세대가 바뀐 세그먼트를 가리키는 항목은 무효로 본다.
+ * 세그먼트마다 써 넣은 키를 기록해 두어, 세그먼트를 비울 때 인덱스 전체가 아니라 그 키들만 정리한다.
+ * 세그먼트 버퍼는 처음 쓰일 때 할당하므로, 쓰이지 않은 용량은 direct 메모리를 차지하지 않는다.
+ */
+final class OffHeapRingStore {
+	private final ByteBuffer[] segments;
+	private final long[] generations;
+	private final long[][] segmentKeys;
+	private final int[] segmentKeyCounts;
+	private final int segmentSize;
+	private final ConcurrentHashMap<Long, Slot> index = new ConcurrentHashMap<>();
+	private final ReentrantLock writeLock = new ReentrantLock();
+	private final StampedLock bufferLock = new StampedLock();
+	private int currentSegment;
+	private int writeOffset;
+
+	OffHeapRingStore(long capacityBytes, int segmentSize) {
+		int segmentCount = (int) Math.max(2, capacityBytes / segmentSize);
+		this.segments = new ByteBuffer[segmentCount];
+		this.generations = new long[segmentCount];
+		this.segmentKeys = new long[segmentCount][16];
+		this.segmentKeyCounts = new int[segmentCount];
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * @return 세그먼트 하나보다 큰 값이라 저장하지 못했으면 false
+	 */
+	boolean put(long key, byte[] value) {
+		if (value.length > segmentSize) {
+			return false;
+		}
+		writeLock.lock();
+		try {
+			if (writeOffset + value.length > segmentSize) {
+				advanceSegment();
+			}
+			if (segments[currentSegment] == null) {
+				segments[currentSegment] = ByteBuffer.allocateDirect(segmentSize);
+			}
+			long stamp = bufferLock.writeLock();
+			try {
+				segments[currentSegment].put(writeOffset, value);
+			} finally {
+				bufferLock.unlockWrite(stamp);
+			}
+			index.put(key, new Slot(currentSegment, writeOffset, value.length, generations[currentSegment]));
+			recordKey(key);
+			writeOffset += value.length;
+			return true;
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	byte[] get(long key) {
+		Slot slot = index.get(key);
+		if (slot == null) {
+			return null;
+		}
+		byte[] value = new byte[slot.length()];
+		long stamp = bufferLock.tryOptimisticRead();
+		boolean current = copy(slot, value);
+		if (!bufferLock.validate(stamp)) {
+			stamp = bufferLock.readLock();
+			try {
+				current = copy(slot, value);
+			} finally {
+				bufferLock.unlockRead(stamp);
+			}
+		}
+		if (!current) {
+			index.remove(key, slot);
+			return null;
+		}
+		return value;
+	}
+
+	void remove(long key) {
+		index.remove(key);
+	}
+
+	int size() {
+		return index.size();
+	}
+
+	private boolean copy(Slot slot, byte[] value) {
+		if (generations[slot.segment()] != slot.generation()) {
+			return false;
+		}
+		segments[slot.segment()].get(slot.offset(), value);
+		return true;
+	}
+
+	// writeLock 보유 상태에서만 호출된다.
+	private void advanceSegment() {
+		int next = (currentSegment + 1) % segments.length;
+		long stamp = bufferLock.writeLock();
+		try {
+			generations[next]++;
+		} finally {
+			bufferLock.unlockWrite(stamp);
+		}
+		// 이후 다른 세그먼트에 다시 쓰였거나 지워진 키는 건드리지 않는다.
+		long[] keys = segmentKeys[next];
+		for (int i = 0; i < segmentKeyCounts[next]; i++) {
+			index.computeIfPresent(keys[i], (key, slot) -> slot.segment() == next ? null : slot);
+		}
+		segmentKeyCounts[next] = 0;
+		currentSegment = next;
+		writeOffset = 0;
+	}
+
+	// writeLock 보유 상태에서만 호출된다.
+	private void recordKey(long key) {
+		int count = segmentKeyCounts[currentSegment];
+		if (count == segmentKeys[currentSegment].length) {
+			segmentKeys[currentSegment] = Arrays.copyOf(segmentKeys[currentSegment], count * 2);
+		}
+		segmentKeys[currentSegment][count] = key;
+		segmentKeyCounts[currentSegment] = count + 1;
+	}
+
+	private record Slot(int segment, int offset, int length, long generation) {
+	}
+}
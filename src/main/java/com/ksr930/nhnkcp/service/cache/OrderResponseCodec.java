@@ -0,0 +1,83 @@
+package com.ksr930.nhnkcp.service.cache;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.dto.order.OrderItemResponse;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오프힙 저장용 {@link OrderResponse} 이진 포맷. 필드 순서가 곧 포맷이므로 필드를 바꿀 때는 VERSION 을 올린다.
+ * 상품명은 바뀔 수 있으므로 저장하지 않고, 복원한 항목의 상품명은 null 이다.
+ */
+final class OrderResponseCodec {
+	private static final byte VERSION = 2;
+	private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+	private OrderResponseCodec() {
+	}
+
+	static byte[] encode(OrderResponse order) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + order.items().size() * 48);
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeByte(VERSION);
+			out.writeLong(order.id());
+			out.writeByte(order.status().ordinal());
+			writeTime(out, order.createdAt());
+			writeTime(out, order.updatedAt());
+			out.writeInt(order.items().size());
+			for (OrderItemResponse item : order.items()) {
+				out.writeLong(item.productId());
+				out.writeInt(item.price());
+				out.writeInt(item.quantity());
+			}
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return bytes.toByteArray();
+	}
+
+	static OrderResponse decode(byte[] encoded) {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+			byte version = in.readByte();
+			if (version != VERSION) {
+				throw new IllegalStateException("Unsupported order codec version " + version);
+			}
+			long id = in.readLong();
+			OrderStatus status = STATUSES[in.readByte()];
+			LocalDateTime createdAt = readTime(in);
+			LocalDateTime updatedAt = readTime(in);
+			int itemCount = in.readInt();
+			List<OrderItemResponse> items = new ArrayList<>(itemCount);
+			for (int i = 0; i < itemCount; i++) {
+				items.add(new OrderItemResponse(in.readLong(), null, in.readInt(), in.readInt()));
+			}
+			return new OrderResponse(id, status, createdAt, updatedAt, items);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+		out.writeBoolean(time != null);
+		if (time != null) {
+			out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+			out.writeInt(time.getNano());
+		}
+	}
+
+	private static LocalDateTime readTime(DataInputStream in) throws IOException {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+	}
+}
@@ -0,0 +1,126 @@
+package com.ksr930.nhnkcp.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ksr930.nhnkcp.config.TerminalOrderCacheProperties;
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.dto.order.OrderItemResponse;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 더 이상 바뀌지 않는(CANCELED) 또는 CANCELED 로만 바뀔 수 있는(COMPLETED) 주문 응답 캐시.
+ * L1 은 힙(Caffeine), L2 는 직렬화해 direct 버퍼에 보관하는 오프힙 링이다.
+ *
+ * <p>DB 조회 전에 읽은 epoch 가 저장 시점까지 그대로일 때만 유효한 값으로 남긴다.
+ * COMPLETED → CANCELED 전이 시점과 커밋 이후에 epoch 를 올리고 항목을 지우므로, 그 사이에 읽은 이전 상태가 다시 채워지지 않는다.
+ * 트랜잭션 안에서 읽은 값은 롤백될 수 있으므로 저장하지 않는다.
+ *
+ * <p>상품명은 주문이 끝난 뒤에도 바뀔 수 있으므로 바뀌지 않는 주문 필드만 저장한다. 돌려주는 응답의 항목 상품명은 null 이며,
+ * 호출하는 쪽이 조회 시점의 상품명을 붙인다.
+ */
+@Component
+public class TerminalOrderCache {
+	private final boolean enabled;
+	private final Cache<Long, OrderResponse> heap;
+	private final OffHeapRingStore offHeap;
+	private final AtomicLongArray epochs;
+
+	public TerminalOrderCache(TerminalOrderCacheProperties properties) {
+		this.enabled = properties.enabled();
+		this.heap = Caffeine.newBuilder()
+				.maximumSize(properties.heapMaximumSize())
+				.build();
+		this.offHeap = enabled
+				? new OffHeapRingStore(properties.offHeapSize().toBytes(), (int) properties.segmentSize().toBytes())
+				: null;
+		this.epochs = new AtomicLongArray(Math.max(1, properties.epochStripes()));
+	}
+
+	public static boolean isCacheable(OrderStatus status) {
+		return status == OrderStatus.COMPLETED || status == OrderStatus.CANCELED;
+	}
+
+	public OrderResponse get(Long orderId) {
+		if (!enabled) {
+			return null;
+		}
+		OrderResponse cached = heap.getIfPresent(orderId);
+		if (cached != null) {
+			return cached;
+		}
+		byte[] encoded = offHeap.get(orderId);
+		if (encoded == null) {
+			return null;
+		}
+		OrderResponse decoded = OrderResponseCodec.decode(encoded);
+		heap.put(orderId, decoded);
+		return decoded;
+	}
+
+	public long epoch(Long orderId) {
+		return epochs.get(stripe(orderId));
+	}
+
+	/**
+	 * @param epoch DB 조회 전에 {@link #epoch(Long)} 로 읽은 값
+	 */
+	public void put(OrderResponse order, long epoch) {
+		if (!enabled || !isCacheable(order.status()) || epoch(order.id()) != epoch
+				|| TransactionSynchronizationManager.isActualTransactionActive()) {
+			return;
+		}
+		OrderResponse immutable = withoutProductNames(order);
+		heap.put(order.id(), immutable);
+		offHeap.put(order.id(), OrderResponseCodec.encode(immutable));
+		// 저장하는 사이에 무효화가 끼어들었다면 방금 넣은 값을 되돌린다.
+		if (epoch(order.id()) != epoch) {
+			evict(order.id());
+		}
+	}
+
+	/**
+	 * 같은 트랜잭션의 이후 조회가 이전 상태를 보지 않도록 즉시 지우고, 커밋 전까지 다른 요청이 채운 값도 커밋 후 한 번 더 지운다.
+	 */
+	public void invalidateAfterCommit(Long orderId) {
+		invalidate(orderId);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				invalidate(orderId);
+			}
+		});
+	}
+
+	private void invalidate(Long orderId) {
+		epochs.incrementAndGet(stripe(orderId));
+		evict(orderId);
+	}
+
+	private void evict(Long orderId) {
+		heap.invalidate(orderId);
+		if (offHeap != null) {
+			offHeap.remove(orderId);
+		}
+	}
+
+	private static OrderResponse withoutProductNames(OrderResponse order) {
+		List<OrderItemResponse> items = new ArrayList<>(order.items().size());
+		for (OrderItemResponse item : order.items()) {
+			items.add(new OrderItemResponse(item.productId(), null, item.price(), item.quantity()));
+		}
+		return new OrderResponse(order.id(), order.status(), order.createdAt(), order.updatedAt(), items);
+	}
+
+	private int stripe(Long orderId) {
+		return (int) Math.floorMod(orderId, (long) epochs.length());
+	}
+}
@@ -0,0 +1,77 @@
+package com.ksr930.nhnkcp.service.export;
+
+import com.ksr930.nhnkcp.dto.order.ExportFormat;
+import com.ksr930.nhnkcp.repository.OrderExportRepository.OrderExportRow;
+import java.io.IOException;
+import java.io.Writer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 항목 한 건을 한 줄로 기록한다(RFC 4180). 주문 컬럼은 항목마다 반복된다.
+ */
+@Component
+public class CsvOrderExportWriter implements OrderExportWriter {
+	private static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+	private static final String HEADER =
+			"order_id,status,created_at,updated_at,product_id,product_name,unit_price,quantity\r\n";
+
+	@Override
+	public ExportFormat format() {
+		return ExportFormat.CSV;
+	}
+
+	@Override
+	public MediaType mediaType() {
+		return CSV;
+	}
+
+	@Override
+	public Sink open(Writer out) throws IOException {
+		out.write(HEADER);
+		return new Sink() {
+			@Override
+			public void write(OrderExportRow row) throws IOException {
+				out.write(Long.toString(row.orderId()));
+				out.write(',');
+				out.write(row.status().name());
+				out.write(',');
+				out.write(row.createdAt().toString());
+				out.write(',');
+				out.write(row.updatedAt().toString());
+				out.write(',');
+				if (row.productId() != null) {
+					out.write(Long.toString(row.productId()));
+					out.write(',');
+					writeEscaped(out, row.productName());
+					out.write(',');
+					out.write(Integer.toString(row.unitPrice()));
+					out.write(',');
+					out.write(Integer.toString(row.quantity()));
+				} else {
+					out.write(",,,");
+				}
+				out.write("\r\n");
+			}
+
+			@Override
+			public void finish() {
+			}
+		};
+	}
+
+	private static void writeEscaped(Writer out, String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+				|| value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+		if (!quote) {
+			out.write(value);
+			return;
+		}
+		out.write('"');
+		out.write(value.replace("\"", "\"\""));
+		out.write('"');
+	}
+}
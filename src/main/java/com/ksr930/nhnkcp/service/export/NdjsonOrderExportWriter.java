@@ -0,0 +1,81 @@
+package com.ksr930.nhnkcp.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.ksr930.nhnkcp.dto.order.ExportFormat;
+import com.ksr930.nhnkcp.dto.order.OrderItemResponse;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.repository.OrderExportRepository.OrderExportRow;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 한 건을 {@link OrderResponse} 와 같은 구조의 JSON 한 줄로 기록한다.
+ * 연속된 같은 주문의 항목 행만 모으므로 메모리에는 주문 한 건만 남는다.
+ */
+@Component
+public class NdjsonOrderExportWriter implements OrderExportWriter {
+	private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+	private final ObjectMapper objectMapper;
+
+	public NdjsonOrderExportWriter(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public ExportFormat format() {
+		return ExportFormat.NDJSON;
+	}
+
+	@Override
+	public MediaType mediaType() {
+		return NDJSON;
+	}
+
+	@Override
+	public Sink open(Writer out) throws IOException {
+		SequenceWriter lines = objectMapper.writer()
+				.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+				.withRootValueSeparator("\n")
+				.writeValues(out);
+		return new Sink() {
+			private OrderExportRow current;
+			private final List<OrderItemResponse> items = new ArrayList<>();
+
+			@Override
+			public void write(OrderExportRow row) throws IOException {
+				if (current != null && current.orderId() != row.orderId()) {
+					flushCurrent();
+				}
+				current = row;
+				if (row.productId() != null) {
+					items.add(new OrderItemResponse(row.productId(), row.productName(), row.unitPrice(), row.quantity()));
+				}
+			}
+
+			@Override
+			public void finish() throws IOException {
+				flushCurrent();
+				lines.flush();
+				// SequenceWriter 는 마지막 값 뒤에 구분자를 쓰지 않으므로 줄바꿈으로 끝맺는다.
+				out.write('\n');
+			}
+
+			private void flushCurrent() throws IOException {
+				if (current == null) {
+					return;
+				}
+				lines.write(new OrderResponse(
+						current.orderId(), current.status(), current.createdAt(), current.updatedAt(), List.copyOf(items)));
+				items.clear();
+				current = null;
+			}
+		};
+	}
+}
@@ -0,0 +1,25 @@
+package com.ksr930.nhnkcp.service.export;
+
+import com.ksr930.nhnkcp.dto.order.ExportFormat;
+import com.ksr930.nhnkcp.repository.OrderExportRepository.OrderExportRow;
+import java.io.IOException;
+import java.io.Writer;
+import org.springframework.http.MediaType;
+
+/**
+ * 내보내기 형식 별 직렬화 전략. 구현체는 상태가 없고, 내보내기 한 번의 상태는 {@link Sink} 가 가진다.
+ */
+public interface OrderExportWriter {
+	ExportFormat format();
+
+	MediaType mediaType();
+
+	Sink open(Writer out) throws IOException;
+
+	interface Sink {
+		void write(OrderExportRow row) throws IOException;
+
+		// 남은 데이터를 기록한다. 대상 Writer 는 닫지 않는다.
+		void finish() throws IOException;
+	}
+}
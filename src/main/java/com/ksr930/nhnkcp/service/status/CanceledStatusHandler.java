@@ -1,6 +1,5 @@
 package com.ksr930.nhnkcp.service.status;
 
-import com.ksr930.nhnkcp.domain.order.Order;
 import com.ksr930.nhnkcp.domain.order.OrderStatus;
 import org.springframework.stereotype.Component;
 
@@ -17,7 +16,7 @@ public class CanceledStatusHandler implements OrderStatusHandler {
 	}
 
 	@Override
-	public void onTransition(Order order, OrderStatus to) {
+	public void onTransition(Long orderId, OrderStatus to) {
 		// no-op
 	}
 }
@@ -1,6 +1,5 @@
 package com.ksr930.nhnkcp.service.status;
 
-import com.ksr930.nhnkcp.domain.order.Order;
 import com.ksr930.nhnkcp.domain.order.OrderStatus;
 import com.ksr930.nhnkcp.service.StockService;
 import java.util.EnumSet;
@@ -27,9 +26,9 @@ public class CompletedStatusHandler implements OrderStatusHandler {
 	}
 
 	@Override
-	public void onTransition(Order order, OrderStatus to) {
+	public void onTransition(Long orderId, OrderStatus to) {
 		if (to == OrderStatus.CANCELED) {
-			stockService.restore(order.getItems());
+			stockService.restoreForOrder(orderId);
 		}
 	}
 }
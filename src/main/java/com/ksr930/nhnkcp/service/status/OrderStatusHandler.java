@@ -1,6 +1,5 @@
 package com.ksr930.nhnkcp.service.status;
 
-import com.ksr930.nhnkcp.domain.order.Order;
 import com.ksr930.nhnkcp.domain.order.OrderStatus;
 
 public interface OrderStatusHandler {
@@ -8,5 +7,8 @@ public interface OrderStatusHandler {
 
 	boolean canTransitionTo(OrderStatus to);
 
-	void onTransition(Order order, OrderStatus to);
+	/**
+	 * 상태가 조건부 UPDATE 로 실제 변경된 경우에만 같은 트랜잭션 안에서 호출된다.
+	 */
+	void onTransition(Long orderId, OrderStatus to);
 }
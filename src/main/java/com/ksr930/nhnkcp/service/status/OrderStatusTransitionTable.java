@@ -0,0 +1,37 @@
+package com.ksr930.nhnkcp.service.status;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link OrderStatusHandler} 빈들의 전이 규칙을 기동 시점에 (from, to) 배열로 미리 계산해 둔다.
+ */
+@Component
+public class OrderStatusTransitionTable {
+	private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+	private final boolean[][] allowed = new boolean[STATUSES.length][STATUSES.length];
+	private final Map<OrderStatus, OrderStatusHandler> handlers = new EnumMap<>(OrderStatus.class);
+
+	public OrderStatusTransitionTable(List<OrderStatusHandler> handlers) {
+		for (OrderStatusHandler handler : handlers) {
+			if (this.handlers.put(handler.status(), handler) != null) {
+				throw new IllegalStateException("Duplicate status handler for " + handler.status());
+			}
+			for (OrderStatus to : STATUSES) {
+				allowed[handler.status().ordinal()][to.ordinal()] = handler.canTransitionTo(to);
+			}
+		}
+	}
+
+	public boolean canTransition(OrderStatus from, OrderStatus to) {
+		return allowed[from.ordinal()][to.ordinal()];
+	}
+
+	public OrderStatusHandler handler(OrderStatus from) {
+		return handlers.get(from);
+	}
+}
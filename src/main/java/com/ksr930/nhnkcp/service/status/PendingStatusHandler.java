@@ -1,6 +1,5 @@
 package com.ksr930.nhnkcp.service.status;
 
-import com.ksr930.nhnkcp.domain.order.Order;
 import com.ksr930.nhnkcp.domain.order.OrderStatus;
 import java.util.EnumSet;
 import java.util.Set;
@@ -21,7 +20,7 @@ public class PendingStatusHandler implements OrderStatusHandler {
 	}
 
 	@Override
-	public void onTransition(Order order, OrderStatus to) {
+	public void onTransition(Long orderId, OrderStatus to) {
 		// no-op
 	}
 }
@@ -0,0 +1,219 @@
+package com.ksr930.nhnkcp.service.stock;
+
+import com.ksr930.nhnkcp.config.StockProperties;
+import com.ksr930.nhnkcp.exception.ApiException;
+import com.ksr930.nhnkcp.exception.ErrorCode;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 같은 상품에 동시에 몰린 차감 요청을 {@link StockCombiner} 로 모아 리더가 합계를 한 번의 UPDATE 로 반영한다.
+ *
+ * <p>리더의 UPDATE 는 요청 커넥션 풀과 분리된 전용 풀에서 바로 커밋되므로, 요청마다 {@code stock_reservations} 에
+ * 예약 행을 같은 트랜잭션으로 남긴다. 호출한 트랜잭션은 자기 예약 행을 지워 차감을 확정하며, 이 삭제는 호출 트랜잭션과
+ * 함께 커밋되거나 롤백된다. 따라서 예약 행이 남아 있으면 호출 트랜잭션이 커밋되지 않은 것이고,
+ * 롤백 직후(afterCompletion) 또는 그것이 실패했을 때 주기적인 정리에서 재고로 되돌린다.
+ * 되돌리기는 예약 행을 잠그고 지운 트랜잭션 안에서만 하므로 한 번만 일어난다.
+ *
+ * <p>호출 트랜잭션이 끝나기 전까지 예약분은 다른 요청에게 재고로 보이지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "nhnkcp.stock", name = "mode", havingValue = "combining")
+public class CombiningStockEngine implements StockEngine {
+	private static final Logger log = LoggerFactory.getLogger(CombiningStockEngine.class);
+	private static final String DECREASE_SQL = "update products set stock_quantity = stock_quantity - ?, "
+			+ "version = version + 1 where id = ? and stock_quantity >= ?";
+	private static final String INCREASE_SQL = "update products set stock_quantity = stock_quantity + ?, "
+			+ "version = version + 1 where id = ?";
+	private static final String SELECT_FOR_UPDATE_SQL = "select stock_quantity from products where id = ? for update";
+	private static final String INSERT_RESERVATION_SQL = "insert into stock_reservations "
+			+ "(id, product_id, quantity, created_at) values (?, ?, ?, ?)";
+	private static final String DELETE_RESERVATION_SQL = "delete from stock_reservations where id = ?";
+	private static final String LOCK_RESERVATION_SQL = "select product_id, quantity from stock_reservations where id = ? for update";
+	private static final String EXPIRED_RESERVATIONS_SQL = "select id from stock_reservations where created_at < ?";
+
+	private final ProductRepository productRepository;
+	private final JdbcTemplate requestJdbcTemplate;
+	private final HikariDataSource combinerDataSource;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final StockCombiner combiner;
+	private final Duration reservationTimeout;
+
+	public CombiningStockEngine(
+			ProductRepository productRepository,
+			JdbcTemplate requestJdbcTemplate,
+			DataSourceProperties dataSourceProperties,
+			StockProperties stockProperties
+	) {
+		this.productRepository = productRepository;
+		this.requestJdbcTemplate = requestJdbcTemplate;
+		// 요청 스레드가 커넥션을 쥔 채 리더를 기다리므로, 리더는 요청 풀(과 그 앞의 허가 게이트)과 경쟁하지 않는 별도 풀을 쓴다.
+		this.combinerDataSource = dataSourceProperties.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.build();
+		this.combinerDataSource.setPoolName("stock-combiner");
+		this.combinerDataSource.setMaximumPoolSize(stockProperties.combining().poolSize());
+		this.jdbcTemplate = new JdbcTemplate(combinerDataSource);
+		this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(combinerDataSource));
+		this.combiner = new StockCombiner(stockProperties.combining().maxBatchSize(), this::applyBatch);
+		this.reservationTimeout = stockProperties.combining().reservationTimeout();
+	}
+
+	@Override
+	public StockMode mode() {
+		return StockMode.COMBINING;
+	}
+
+	@Override
+	public boolean holdsRowLocks() {
+		return false;
+	}
+
+	@Override
+	public void decrease(SortedMap<Long, Integer> quantityByProductId) {
+		List<String> reservationIds = new ArrayList<>();
+		try {
+			for (Map.Entry<Long, Integer> entry : quantityByProductId.entrySet()) {
+				String reservationId = combiner.decrease(entry.getKey(), entry.getValue());
+				if (reservationId == null) {
+					throw new ApiException(ErrorCode.OUT_OF_STOCK);
+				}
+				reservationIds.add(reservationId);
+			}
+			// 호출 트랜잭션 안에서 예약을 지워 확정한다. 이 삭제가 롤백되면 예약이 남아 되돌리기 대상이 된다.
+			for (String reservationId : reservationIds) {
+				requestJdbcTemplate.update(DELETE_RESERVATION_SQL, reservationId);
+			}
+		} catch (RuntimeException ex) {
+			release(reservationIds);
+			throw ex;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status != STATUS_COMMITTED) {
+						release(reservationIds);
+					}
+				}
+			});
+		}
+	}
+
+	@Override
+	public void restore(SortedMap<Long, Integer> quantityByProductId) {
+		int[] updatedRows = productRepository.increaseStock(quantityByProductId);
+		for (int updatedRow : updatedRows) {
+			if (updatedRow == 0) {
+				throw new ApiException(ErrorCode.NOT_FOUND);
+			}
+		}
+	}
+
+	// afterCompletion 되돌리기가 실패했거나 프로세스가 중간에 죽어 남은 예약을 정리한다.
+	@Scheduled(fixedDelayString = "${nhnkcp.stock.combining.reservation-sweep-interval-ms:10000}")
+	public void releaseExpiredReservations() {
+		Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(reservationTimeout));
+		List<String> expired = jdbcTemplate.queryForList(EXPIRED_RESERVATIONS_SQL, String.class, cutoff);
+		if (!expired.isEmpty()) {
+			log.warn("releasing {} combined stock reservations left by uncommitted transactions", expired.size());
+			release(expired);
+		}
+	}
+
+	@PreDestroy
+	public void close() {
+		combinerDataSource.close();
+	}
+
+	// 합계를 조건부 UPDATE 한 번으로 반영하고, 부족하면 행을 잠근 뒤 도착 순서대로 가능한 요청까지만 반영한다.
+	// 반영한 요청마다 예약 행을 같은 트랜잭션으로 남긴다.
+	private String[] applyBatch(Long productId, int[] quantities) {
+		return transactionTemplate.execute(status -> {
+			boolean[] granted = new boolean[quantities.length];
+			int total = 0;
+			for (int quantity : quantities) {
+				total += quantity;
+			}
+			if (jdbcTemplate.update(DECREASE_SQL, total, productId, total) == 1) {
+				Arrays.fill(granted, true);
+			} else {
+				List<Integer> stock = jdbcTemplate.queryForList(SELECT_FOR_UPDATE_SQL, Integer.class, productId);
+				if (stock.isEmpty()) {
+					throw new ApiException(ErrorCode.NOT_FOUND);
+				}
+				int remaining = stock.get(0);
+				int allocated = 0;
+				for (int i = 0; i < quantities.length; i++) {
+					if (quantities[i] <= remaining) {
+						granted[i] = true;
+						remaining -= quantities[i];
+						allocated += quantities[i];
+					}
+				}
+				if (allocated > 0) {
+					jdbcTemplate.update(DECREASE_SQL, allocated, productId, allocated);
+				}
+			}
+			return reserve(productId, quantities, granted);
+		});
+	}
+
+	private String[] reserve(Long productId, int[] quantities, boolean[] granted) {
+		String[] reservationIds = new String[quantities.length];
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> batchArgs = new ArrayList<>();
+		for (int i = 0; i < quantities.length; i++) {
+			if (granted[i]) {
+				reservationIds[i] = UUID.randomUUID().toString();
+				batchArgs.add(new Object[] {reservationIds[i], productId, quantities[i], now});
+			}
+		}
+		if (!batchArgs.isEmpty()) {
+			jdbcTemplate.batchUpdate(INSERT_RESERVATION_SQL, batchArgs);
+		}
+		return reservationIds;
+	}
+
+	// 예약을 잠그고 지운 트랜잭션에서만 재고를 되돌리므로, 이미 확정됐거나 되돌려진 예약은 건너뛴다.
+	private void release(List<String> reservationIds) {
+		for (String reservationId : reservationIds) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> {
+					List<Map<String, Object>> reservation = jdbcTemplate.queryForList(LOCK_RESERVATION_SQL, reservationId);
+					if (reservation.isEmpty()) {
+						return;
+					}
+					jdbcTemplate.update(DELETE_RESERVATION_SQL, reservationId);
+					jdbcTemplate.update(INCREASE_SQL,
+							((Number) reservation.get(0).get("quantity")).intValue(),
+							((Number) reservation.get(0).get("product_id")).longValue());
+				});
+			} catch (RuntimeException ex) {
+				log.warn("failed to release combined stock reservation {}, it will be swept later", reservationId, ex);
+			}
+		}
+	}
+}
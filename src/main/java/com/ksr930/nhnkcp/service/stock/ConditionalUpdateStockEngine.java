@@ -0,0 +1,59 @@
+package com.ksr930.nhnkcp.service.stock;
+
+import com.ksr930.nhnkcp.exception.ApiException;
+import com.ksr930.nhnkcp.exception.ErrorCode;
+import com.ksr930.nhnkcp.monitoring.ProductLockProfiler;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code stock_quantity >= ?} 조건을 건 UPDATE 를 주문 단위 JDBC 배치 한 번으로 실행한다.
+ * 락은 조회 없이 UPDATE 문에서만 잡히며, 영향받은 행 수가 0이면 재고 부족(또는 상품 없음)으로 판단한다.
+ */
+@Component
+public class ConditionalUpdateStockEngine implements StockEngine {
+	private final ProductRepository productRepository;
+	private final ProductLockProfiler lockProfiler;
+
+	public ConditionalUpdateStockEngine(ProductRepository productRepository, ProductLockProfiler lockProfiler) {
+		this.productRepository = productRepository;
+		this.lockProfiler = lockProfiler;
+	}
+
+	@Override
+	public StockMode mode() {
+		return StockMode.CONDITIONAL_UPDATE;
+	}
+
+	@Override
+	public void decrease(SortedMap<Long, Integer> quantityByProductId) {
+		List<Long> productIds = new ArrayList<>(quantityByProductId.keySet());
+		int[] updatedRows = lockProfiler.lockAll(productIds, () -> productRepository.decreaseStock(quantityByProductId));
+		for (int i = 0; i < updatedRows.length; i++) {
+			if (updatedRows[i] == 0) {
+				throw failure(productIds.get(i));
+			}
+		}
+	}
+
+	@Override
+	public void restore(SortedMap<Long, Integer> quantityByProductId) {
+		List<Long> productIds = new ArrayList<>(quantityByProductId.keySet());
+		int[] updatedRows = lockProfiler.lockAll(productIds, () -> productRepository.increaseStock(quantityByProductId));
+		for (int updated : updatedRows) {
+			if (updated == 0) {
+				throw new ApiException(ErrorCode.NOT_FOUND);
+			}
+		}
+	}
+
+	private ApiException failure(Long productId) {
+		if (!productRepository.existsById(productId)) {
+			return new ApiException(ErrorCode.NOT_FOUND);
+		}
+		return new ApiException(ErrorCode.OUT_OF_STOCK);
+	}
+}
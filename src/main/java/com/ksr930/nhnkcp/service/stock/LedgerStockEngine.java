@@ -0,0 +1,172 @@
+package com.ksr930.nhnkcp.service.stock;
+
+import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.exception.ApiException;
+import com.ksr930.nhnkcp.exception.ErrorCode;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 재고 판단을 메모리 원장에서 처리하고, 커밋된 변화량만 주기적으로 {@code products.stock_quantity} 에 일괄 반영한다.
+ * 차감은 즉시 예약되고 트랜잭션이 롤백되면 되돌려지므로, 원장은 커밋된 결과만 DB 로 내보낸다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "nhnkcp.stock", name = "mode", havingValue = "ledger")
+public class LedgerStockEngine implements StockEngine {
+	private static final Logger log = LoggerFactory.getLogger(LedgerStockEngine.class);
+
+	private final StockLedger ledger = new StockLedger();
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final ProductRepository productRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	public LedgerStockEngine(ProductRepository productRepository, PlatformTransactionManager transactionManager) {
+		this.productRepository = productRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Override
+	public StockMode mode() {
+		return StockMode.LEDGER;
+	}
+
+	@Override
+	public boolean holdsRowLocks() {
+		return false;
+	}
+
+	@Override
+	public void decrease(SortedMap<Long, Integer> quantityByProductId) {
+		Map<StockLedger.Entry, Integer> reservations = new LinkedHashMap<>();
+		for (Map.Entry<Long, Integer> item : quantityByProductId.entrySet()) {
+			StockLedger.Entry entry = entryOf(item.getKey());
+			if (!entry.tryReserve(item.getValue())) {
+				reservations.forEach(StockLedger.Entry::cancelReservation);
+				throw new ApiException(ErrorCode.OUT_OF_STOCK);
+			}
+			reservations.put(entry, item.getValue());
+		}
+		afterCompletion(committed -> reservations.forEach(committed
+				? StockLedger.Entry::commitReservation
+				: StockLedger.Entry::cancelReservation));
+	}
+
+	@Override
+	public void restore(SortedMap<Long, Integer> quantityByProductId) {
+		Map<StockLedger.Entry, Integer> additions = new LinkedHashMap<>();
+		for (Map.Entry<Long, Integer> item : quantityByProductId.entrySet()) {
+			additions.put(entryOf(item.getKey()), item.getValue());
+		}
+		afterCompletion(committed -> {
+			if (committed) {
+				additions.forEach(StockLedger.Entry::add);
+			}
+		});
+	}
+
+	@Override
+	public int currentStock(Product product) {
+		return entryOf(product.getId()).available();
+	}
+
+	@Override
+	public void replaceStock(Product product, int stockQuantity) {
+		StockLedger.Entry entry = entryOf(product.getId());
+		afterCompletion(committed -> {
+			if (committed) {
+				entry.replace(stockQuantity);
+			}
+		});
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		flushLock.lock();
+		try {
+			ledger.clear();
+			productRepository.findAllStockQuantities().forEach(ledger::register);
+			log.info("stock ledger rebuilt from products table: {} products", ledger.entries().size());
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	@PreDestroy
+	@Scheduled(fixedDelayString = "${nhnkcp.stock.ledger.flush-interval-ms:200}")
+	public void flush() {
+		flushLock.lock();
+		try {
+			SortedMap<Long, Integer> deltas = ledger.drainPending();
+			if (deltas.isEmpty()) {
+				return;
+			}
+			try {
+				transactionTemplate.executeWithoutResult(status -> productRepository.increaseStock(deltas));
+			} catch (RuntimeException ex) {
+				ledger.requeue(deltas);
+				log.warn("stock ledger write-behind failed, {} products will be retried", deltas.size(), ex);
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	public List<StockLedgerMismatch> verify() {
+		flushLock.lock();
+		try {
+			flush();
+			Map<Long, Integer> persisted = productRepository.findAllStockQuantities();
+			List<StockLedgerMismatch> mismatches = new ArrayList<>();
+			ledger.entries().forEach((productId, entry) -> {
+				Integer persistedQuantity = persisted.get(productId);
+				if (persistedQuantity != null && persistedQuantity != entry.persistedQuantity()) {
+					mismatches.add(new StockLedgerMismatch(productId, entry.persistedQuantity(), persistedQuantity));
+				}
+			});
+			return mismatches;
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private StockLedger.Entry entryOf(Long productId) {
+		StockLedger.Entry entry = ledger.get(productId);
+		if (entry != null) {
+			return entry;
+		}
+		int stockQuantity = productRepository.findStockQuantity(productId)
+				.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
+		return ledger.register(productId, stockQuantity);
+	}
+
+	private void afterCompletion(Consumer<Boolean> callback) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			callback.accept(true);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				callback.accept(status == STATUS_COMMITTED);
+			}
+		});
+	}
+}
@@ -0,0 +1,65 @@
+package com.ksr930.nhnkcp.service.stock;
+
+import com.ksr930.nhnkcp.exception.ApiException;
+import com.ksr930.nhnkcp.exception.ErrorCode;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import com.ksr930.nhnkcp.repository.ProductStockSnapshot;
+import java.util.Map;
+import java.util.SortedMap;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 없이 재고와 버전을 읽고 {@code where version = ?} 조건으로 갱신한다.
+ * 다른 트랜잭션이 먼저 갱신했다면 {@link OptimisticLockingFailureException} 을 던지고,
+ * 재시도는 트랜잭션 바깥의 {@code OptimisticLockRetryAspect} 가 새 트랜잭션으로 수행한다.
+ */
+@Component
+public class OptimisticStockEngine implements StockEngine {
+	private final ProductRepository productRepository;
+
+	public OptimisticStockEngine(ProductRepository productRepository) {
+		this.productRepository = productRepository;
+	}
+
+	@Override
+	public StockMode mode() {
+		return StockMode.OPTIMISTIC;
+	}
+
+	@Override
+	public void decrease(SortedMap<Long, Integer> quantityByProductId) {
+		for (Map.Entry<Long, Integer> entry : quantityByProductId.entrySet()) {
+			ProductStockSnapshot snapshot = snapshot(entry.getKey());
+			if (snapshot.stockQuantity() < entry.getValue()) {
+				throw new ApiException(ErrorCode.OUT_OF_STOCK);
+			}
+			compareAndSet(snapshot, snapshot.stockQuantity() - entry.getValue());
+		}
+	}
+
+	@Override
+	public void restore(SortedMap<Long, Integer> quantityByProductId) {
+		for (Map.Entry<Long, Integer> entry : quantityByProductId.entrySet()) {
+			ProductStockSnapshot snapshot = snapshot(entry.getKey());
+			compareAndSet(snapshot, snapshot.stockQuantity() + entry.getValue());
+		}
+	}
+
+	private ProductStockSnapshot snapshot(Long productId) {
+		return productRepository.findStockSnapshot(productId)
+				.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
+	}
+
+	private void compareAndSet(ProductStockSnapshot snapshot, int stockQuantity) {
+		int updatedRows = productRepository.compareAndSetStock(
+				snapshot.productId(),
+				snapshot.version(),
+				stockQuantity
+		);
+		if (updatedRows == 0) {
+			throw new OptimisticLockingFailureException(
+					"Product " + snapshot.productId() + " stock was modified concurrently");
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.ksr930.nhnkcp.service.stock;
+
+import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.exception.ApiException;
+import com.ksr930.nhnkcp.exception.ErrorCode;
+import com.ksr930.nhnkcp.monitoring.ProductLockProfiler;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.util.Map;
+import java.util.SortedMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PessimisticStockEngine implements StockEngine {
+	private final ProductRepository productRepository;
+	private final ProductLockProfiler lockProfiler;
+
+	public PessimisticStockEngine(ProductRepository productRepository, ProductLockProfiler lockProfiler) {
+		this.productRepository = productRepository;
+		this.lockProfiler = lockProfiler;
+	}
+
+	@Override
+	public StockMode mode() {
+		return StockMode.PESSIMISTIC;
+	}
+
+	@Override
+	public void decrease(SortedMap<Long, Integer> quantityByProductId) {
+		for (Map.Entry<Long, Integer> entry : quantityByProductId.entrySet()) {
+			Product product = lock(entry.getKey());
+			if (product.getStockQuantity() < entry.getValue()) {
+				throw new ApiException(ErrorCode.OUT_OF_STOCK);
+			}
+			product.setStockQuantity(product.getStockQuantity() - entry.getValue());
+		}
+	}
+
+	@Override
+	public void restore(SortedMap<Long, Integer> quantityByProductId) {
+		for (Map.Entry<Long, Integer> entry : quantityByProductId.entrySet()) {
+			Product product = lock(entry.getKey());
+			product.setStockQuantity(product.getStockQuantity() + entry.getValue());
+		}
+	}
+
+	private Product lock(Long productId) {
+		return lockProfiler.lock(productId, () -> productRepository.findByIdForUpdate(productId))
+				.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
+	}
+}
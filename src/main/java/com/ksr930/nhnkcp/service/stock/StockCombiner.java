@@ -0,0 +1,115 @@
+package com.ksr930.nhnkcp.service.stock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품별 flat combining 큐. 같은 상품에 대한 차감 요청을 도착 순서대로 쌓고,
+ * 리더 락을 잡은 스레드가 대기 중인 요청을 모아 한 번에 반영한 뒤 각 요청의 결과를 돌려준다.
+ */
+final class StockCombiner {
+	private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private final ConcurrentHashMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+	private final int maxBatchSize;
+	private final BatchApplier applier;
+
+	StockCombiner(int maxBatchSize, BatchApplier applier) {
+		this.maxBatchSize = Math.max(1, maxBatchSize);
+		this.applier = applier;
+	}
+
+	/**
+	 * @return 요청 수량만큼 차감되었으면 리더가 만든 예약 ID, 재고가 부족하면 null
+	 */
+	String decrease(Long productId, int quantity) {
+		Lane lane = lanes.computeIfAbsent(productId, id -> new Lane());
+		Request request = new Request(quantity);
+		lane.queue.add(request);
+		while (!request.settled) {
+			if (lane.leader.tryLock()) {
+				try {
+					while (!request.settled) {
+						applyBatch(productId, lane);
+					}
+				} finally {
+					lane.leader.unlock();
+				}
+				// 리더를 넘겨받을 다음 대기자를 깨운다.
+				Request next = lane.queue.peek();
+				if (next != null) {
+					LockSupport.unpark(next.waiter);
+				}
+			} else {
+				LockSupport.parkNanos(this, PARK_NANOS);
+			}
+		}
+		if (request.failure != null) {
+			throw request.failure;
+		}
+		return request.reservationId;
+	}
+
+	private void applyBatch(Long productId, Lane lane) {
+		List<Request> batch = new ArrayList<>();
+		Request polled;
+		while (batch.size() < maxBatchSize && (polled = lane.queue.poll()) != null) {
+			batch.add(polled);
+		}
+		if (batch.isEmpty()) {
+			return;
+		}
+		int[] quantities = new int[batch.size()];
+		for (int i = 0; i < batch.size(); i++) {
+			quantities[i] = batch.get(i).quantity;
+		}
+		try {
+			String[] reservationIds = applier.apply(productId, quantities);
+			for (int i = 0; i < batch.size(); i++) {
+				batch.get(i).settle(reservationIds[i], null);
+			}
+		} catch (RuntimeException ex) {
+			for (Request request : batch) {
+				request.settle(null, ex);
+			}
+		}
+	}
+
+	@FunctionalInterface
+	interface BatchApplier {
+		/**
+		 * 도착 순서대로 전달된 수량을 반영하고, 요청별 예약 ID(재고 부족이면 null)를 같은 순서로 반환한다.
+		 */
+		String[] apply(Long productId, int[] quantities);
+	}
+
+	private static final class Lane {
+		private final Queue<Request> queue = new ConcurrentLinkedQueue<>();
+		private final ReentrantLock leader = new ReentrantLock();
+	}
+
+	private static final class Request {
+		private final int quantity;
+		private final Thread waiter = Thread.currentThread();
+		private String reservationId;
+		private RuntimeException failure;
+		private volatile boolean settled;
+
+		private Request(int quantity) {
+			this.quantity = quantity;
+		}
+
+		private void settle(String reservationId, RuntimeException failure) {
+			this.reservationId = reservationId;
+			this.failure = failure;
+			this.settled = true;
+			LockSupport.unpark(waiter);
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.ksr930.nhnkcp.service.stock;
+
+import com.ksr930.nhnkcp.domain.product.Product;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 재고 변경 방식별 구현체. 전달되는 수량 맵은 상품 ID 오름차순으로 정렬되어 있으며,
+ * 구현체는 이 순서대로 락을 획득해 데드락을 방지해야 한다.
+ */
+public interface StockEngine {
+	StockMode mode();
+
+	void decrease(SortedMap<Long, Integer> quantityByProductId);
+
+	void restore(SortedMap<Long, Integer> quantityByProductId);
+
+	default int currentStock(Product product) {
+		return product.getStockQuantity();
+	}
+
+	default Map<Long, Integer> currentStocks(Collection<Product> products) {
+		Map<Long, Integer> stockByProductId = new HashMap<>();
+		for (Product product : products) {
+			stockByProductId.put(product.getId(), currentStock(product));
+		}
+		return stockByProductId;
+	}
+
+	/**
+	 * decrease/restore 가 호출한 트랜잭션 안에서 상품(또는 슬롯) 행 락을 잡아 커밋까지 쥐고 있는지.
+	 * 메모리 원장이나 별도 리더 트랜잭션으로 처리하는 구현체는 false 다.
+	 */
+	default boolean holdsRowLocks() {
+		return true;
+	}
+
+	default void replaceStock(Product product, int stockQuantity) {
+		product.setStockQuantity(stockQuantity);
+	}
+}
@@ -0,0 +1,106 @@
+package com.ksr930.nhnkcp.service.stock;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품별 가용 재고를 메모리에서 관리하는 원장. 모든 갱신은 상품별 카운터에 대한 CAS 로만 이뤄지며
+ * {@code available = DB 재고 + pending(미반영 변화량) - reserved(커밋 대기 중인 차감)} 관계를 유지한다.
+ */
+class StockLedger {
+	private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+	Entry get(Long productId) {
+		return entries.get(productId);
+	}
+
+	Entry register(Long productId, int stockQuantity) {
+		Entry created = new Entry(stockQuantity);
+		Entry existing = entries.putIfAbsent(productId, created);
+		return existing == null ? created : existing;
+	}
+
+	void clear() {
+		entries.clear();
+	}
+
+	Map<Long, Entry> entries() {
+		return Collections.unmodifiableMap(entries);
+	}
+
+	SortedMap<Long, Integer> drainPending() {
+		SortedMap<Long, Integer> deltas = new TreeMap<>();
+		entries.forEach((productId, entry) -> {
+			int delta = entry.pending.getAndSet(0);
+			if (delta != 0) {
+				deltas.put(productId, delta);
+			}
+		});
+		return deltas;
+	}
+
+	void requeue(Map<Long, Integer> deltas) {
+		deltas.forEach((productId, delta) -> {
+			Entry entry = entries.get(productId);
+			if (entry != null) {
+				entry.pending.addAndGet(delta);
+			}
+		});
+	}
+
+	static final class Entry {
+		private final AtomicInteger available;
+		private final AtomicInteger pending = new AtomicInteger();
+		private final AtomicInteger reserved = new AtomicInteger();
+
+		private Entry(int stockQuantity) {
+			this.available = new AtomicInteger(stockQuantity);
+		}
+
+		boolean tryReserve(int quantity) {
+			while (true) {
+				int current = available.get();
+				if (current < quantity) {
+					return false;
+				}
+				if (available.compareAndSet(current, current - quantity)) {
+					reserved.addAndGet(quantity);
+					return true;
+				}
+			}
+		}
+
+		void commitReservation(int quantity) {
+			pending.addAndGet(-quantity);
+			reserved.addAndGet(-quantity);
+		}
+
+		void cancelReservation(int quantity) {
+			reserved.addAndGet(-quantity);
+			available.addAndGet(quantity);
+		}
+
+		void add(int quantity) {
+			pending.addAndGet(quantity);
+			available.addAndGet(quantity);
+		}
+
+		void replace(int stockQuantity) {
+			int previous = available.getAndSet(stockQuantity);
+			pending.addAndGet(stockQuantity - previous);
+		}
+
+		int available() {
+			return available.get();
+		}
+
+		int persistedQuantity() {
+			return available.get() + reserved.get() - pending.get();
+		}
+	}
+}
@@ -0,0 +1,8 @@
+package com.ksr930.nhnkcp.service.stock;
+
+public record StockLedgerMismatch(
+		Long productId,
+		int ledgerQuantity,
+		int persistedQuantity
+) {
+}
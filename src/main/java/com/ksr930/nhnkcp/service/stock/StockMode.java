@@ -0,0 +1,10 @@
+package com.ksr930.nhnkcp.service.stock;
+
+public enum StockMode {
+	PESSIMISTIC,
+	OPTIMISTIC,
+	CONDITIONAL_UPDATE,
+	LEDGER,
+	COMBINING,
+	STRIPED
+}
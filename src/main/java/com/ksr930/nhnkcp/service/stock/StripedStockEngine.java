@@ -0,0 +1,243 @@
+package com.ksr930.nhnkcp.service.stock;
+
+import com.ksr930.nhnkcp.config.StockProperties;
+import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.domain.product.ProductStockSlot;
+import com.ksr930.nhnkcp.exception.ApiException;
+import com.ksr930.nhnkcp.exception.ErrorCode;
+import com.ksr930.nhnkcp.monitoring.ProductLockProfiler;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import com.ksr930.nhnkcp.repository.ProductStockSlotRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 재고를 {@code product_stock_slots} 의 여러 행으로 나눠 두고, 차감 시 슬롯 하나만 잠그도록 분산한다.
+ * 슬롯은 처음 재고가 변경될 때 {@code products.stock_quantity} 를 균등 분할해 만들어지며,
+ * 이후 실제 재고는 슬롯 합계다.
+ *
+ * <p>{@code products.stock_quantity} 는 슬롯 합계를 주기적으로 옮겨 적은 값이다. 차감마다 상품 행을 갱신하면 슬롯으로
+ * 나눈 의미가 없으므로, 커밋된 변경이 있었던 상품만 모아 {@code sync-interval-ms} 마다 한 번에 반영한다.
+ */
+@Component
+public class StripedStockEngine implements StockEngine {
+	private static final Logger log = LoggerFactory.getLogger(StripedStockEngine.class);
+
+	private final ProductRepository productRepository;
+	private final ProductStockSlotRepository slotRepository;
+	private final StockProperties.Striping striping;
+	private final ProductLockProfiler lockProfiler;
+	private final AtomicInteger cursor = new AtomicInteger();
+	private final Set<Long> stripedProductIds = ConcurrentHashMap.newKeySet();
+	private final Set<Long> unsyncedProductIds = ConcurrentHashMap.newKeySet();
+	private final TransactionTemplate transactionTemplate;
+
+	public StripedStockEngine(
+			ProductRepository productRepository,
+			ProductStockSlotRepository slotRepository,
+			StockProperties stockProperties,
+			ProductLockProfiler lockProfiler,
+			PlatformTransactionManager transactionManager
+	) {
+		this.productRepository = productRepository;
+		this.slotRepository = slotRepository;
+		this.striping = stockProperties.striping();
+		this.lockProfiler = lockProfiler;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Override
+	public StockMode mode() {
+		return StockMode.STRIPED;
+	}
+
+	@Override
+	public void decrease(SortedMap<Long, Integer> quantityByProductId) {
+		quantityByProductId.forEach(this::decrease);
+		markUnsynced(quantityByProductId.keySet());
+	}
+
+	@Override
+	public void restore(SortedMap<Long, Integer> quantityByProductId) {
+		quantityByProductId.forEach((productId, quantity) -> {
+			ensureSlots(productId);
+			int slot = slotRepository.findSlotsOrderByQuantity(productId, PageRequest.of(0, 1))
+					.stream()
+					.findFirst()
+					.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
+			slotRepository.increaseSlot(productId, slot, quantity);
+		});
+		markUnsynced(quantityByProductId.keySet());
+	}
+
+	@Override
+	public int currentStock(Product product) {
+		return currentStocks(List.of(product)).get(product.getId());
+	}
+
+	@Override
+	public Map<Long, Integer> currentStocks(Collection<Product> products) {
+		Map<Long, Integer> stockByProductId = new HashMap<>();
+		if (products.isEmpty()) {
+			return stockByProductId;
+		}
+		List<Long> productIds = products.stream().map(Product::getId).toList();
+		for (ProductStockSlotRepository.StockTotal total : slotRepository.sumQuantityByProductIds(productIds)) {
+			stockByProductId.put(total.getProductId(), total.getQuantity().intValue());
+		}
+		for (Product product : products) {
+			stockByProductId.putIfAbsent(product.getId(), product.getStockQuantity());
+		}
+		return stockByProductId;
+	}
+
+	@Override
+	public void replaceStock(Product product, int stockQuantity) {
+		product.setStockQuantity(stockQuantity);
+		Long productId = product.getId();
+		// 상품 행과 슬롯 행을 잠그는 구간을 한 번의 락 획득으로 잰다.
+		List<ProductStockSlot> slots = lockProfiler.lock(productId, () -> {
+			productRepository.findByIdForUpdate(productId)
+					.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
+			return slotRepository.refreshManaged(slotRepository.findAllByProductIdForUpdate(productId));
+		});
+		distribute(productId, stockQuantity, slots);
+	}
+
+	private void decrease(Long productId, int quantity) {
+		ensureSlots(productId);
+		int stripes = striping.stripesFor(productId);
+		int start = Math.floorMod(cursor.getAndIncrement(), stripes);
+		for (int i = 0; i < stripes; i++) {
+			if (slotRepository.decreaseSlot(productId, (start + i) % stripes, quantity) == 1) {
+				return;
+			}
+		}
+		drainAcrossSlots(productId, quantity);
+	}
+
+	// 어느 슬롯도 단독으로 수량을 채우지 못하면 모든 슬롯을 슬롯 번호 순으로 잠그고 나눠서 차감한다.
+	private void drainAcrossSlots(Long productId, int quantity) {
+		List<ProductStockSlot> slots = lockProfiler.lock(productId,
+				() -> slotRepository.refreshManaged(slotRepository.findAllByProductIdForUpdate(productId)));
+		int total = slots.stream().mapToInt(ProductStockSlot::getQuantity).sum();
+		if (total < quantity) {
+			throw new ApiException(ErrorCode.OUT_OF_STOCK);
+		}
+		int remaining = quantity;
+		for (ProductStockSlot slot : slots) {
+			int taken = Math.min(slot.getQuantity(), remaining);
+			slot.setQuantity(slot.getQuantity() - taken);
+			remaining -= taken;
+			if (remaining == 0) {
+				return;
+			}
+		}
+	}
+
+	private void ensureSlots(Long productId) {
+		if (stripedProductIds.contains(productId)) {
+			return;
+		}
+		Product product = lockProfiler.lock(productId, () -> productRepository.findByIdForUpdate(productId))
+				.orElseThrow(() -> new ApiException(ErrorCode.NOT_FOUND));
+		if (!slotRepository.existsByProductId(productId)) {
+			distribute(productId, product.getStockQuantity(), List.of());
+		}
+		markStriped(productId);
+	}
+
+	// 슬롯 번호 0..stripes-1 에 재고를 균등 분할한다. 기존 슬롯은 재사용하고 남는 번호는 삭제, 모자라는 번호는 추가한다.
+	private void distribute(Long productId, int stockQuantity, List<ProductStockSlot> existingSlots) {
+		int stripes = striping.stripesFor(productId);
+		Set<Integer> assigned = new HashSet<>();
+		List<ProductStockSlot> removed = new ArrayList<>();
+		for (ProductStockSlot slot : existingSlots) {
+			if (slot.getSlot() < stripes) {
+				slot.setQuantity(share(stockQuantity, stripes, slot.getSlot()));
+				assigned.add(slot.getSlot());
+			} else {
+				removed.add(slot);
+			}
+		}
+		slotRepository.deleteAll(removed);
+
+		List<ProductStockSlot> created = new ArrayList<>();
+		for (int slotNumber = 0; slotNumber < stripes; slotNumber++) {
+			if (!assigned.contains(slotNumber)) {
+				ProductStockSlot slot = new ProductStockSlot();
+				slot.setProductId(productId);
+				slot.setSlot(slotNumber);
+				slot.setQuantity(share(stockQuantity, stripes, slotNumber));
+				created.add(slot);
+			}
+		}
+		slotRepository.saveAll(created);
+	}
+
+	private int share(int stockQuantity, int stripes, int slotNumber) {
+		return stockQuantity / stripes + (slotNumber < stockQuantity % stripes ? 1 : 0);
+	}
+
+	@PreDestroy
+	@Scheduled(fixedDelayString = "${nhnkcp.stock.striping.sync-interval-ms:1000}")
+	public void syncProductStock() {
+		if (unsyncedProductIds.isEmpty()) {
+			return;
+		}
+		List<Long> productIds = new ArrayList<>(unsyncedProductIds);
+		unsyncedProductIds.removeAll(productIds);
+		try {
+			transactionTemplate.executeWithoutResult(status -> productRepository.syncStockFromSlots(productIds));
+		} catch (RuntimeException ex) {
+			unsyncedProductIds.addAll(productIds);
+			log.warn("striped stock sync failed, {} products will be retried", productIds.size(), ex);
+		}
+	}
+
+	private void markUnsynced(Set<Long> productIds) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			unsyncedProductIds.addAll(productIds);
+			return;
+		}
+		Set<Long> changed = Set.copyOf(productIds);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				unsyncedProductIds.addAll(changed);
+			}
+		});
+	}
+
+	// 슬롯 생성 트랜잭션이 롤백될 수 있으므로 커밋 이후에만 초기화 완료로 기록한다.
+	private void markStriped(Long productId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			stripedProductIds.add(productId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				stripedProductIds.add(productId);
+			}
+		});
+	}
+}
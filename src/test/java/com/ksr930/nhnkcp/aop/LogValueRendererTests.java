@@ -0,0 +1,60 @@
+package com.ksr930.nhnkcp.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ksr930.nhnkcp.dto.ApiResponse;
+import com.ksr930.nhnkcp.dto.CursorPage;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+
+class LogValueRendererTests {
+	private final LogValueRenderer renderer = new LogValueRenderer(40, 2);
+
+	@Test
+	@DisplayName("페이지는 메타데이터와 앞쪽 원소만 렌더링한다")
+	void 페이지는_메타데이터와_앞쪽_원소만_렌더링한다() {
+		// 테스트 대상: LogValueRenderer#render, 의도: 큰 페이지 전체를 문자열로 만들지 않고 원소 수 제한을 지키는지 검증
+		List<Integer> content = IntStream.range(0, 20).boxed().toList();
+
+		String rendered = new LogValueRenderer(200, 2)
+				.render(new PageImpl<>(content, PageRequest.of(0, 20), 100));
+
+		assertThat(rendered).isEqualTo("Page(page=0, size=20, total=100) [0, 1, ...(+18)]");
+	}
+
+	@Test
+	@DisplayName("컨트롤러 응답은 ResponseEntity 와 ApiResponse 를 벗기고 레코드 원소 수를 제한한다")
+	void 컨트롤러_응답은_감싼_타입을_벗기고_레코드_원소_수를_제한한다() {
+		// 테스트 대상: LogValueRenderer#render, 의도: ResponseEntity<ApiResponse<CursorPage>> 가 toString() 대신 앞쪽 원소만 렌더링되는지 검증
+		List<Integer> content = IntStream.range(0, 1000).boxed().toList();
+		CursorPage<Integer> page = new CursorPage<>(content, 1000, true, "next");
+
+		String rendered = new LogValueRenderer(200, 2)
+				.render(ResponseEntity.ok(ApiResponse.success(page)));
+
+		assertThat(rendered).isEqualTo("CursorPage[content=[0, 1, ...(+998)], size=1000, hasNext=true, nextCursor=next]");
+	}
+
+	@Test
+	@DisplayName("긴 값은 최대 길이에서 자른다")
+	void 긴_값은_최대_길이에서_자른다() {
+		// 테스트 대상: LogValueRenderer#render, 의도: 렌더링 결과가 최대 길이를 넘지 않는지 검증
+		String rendered = renderer.render("x".repeat(1000));
+
+		assertThat(rendered).hasSize(43).endsWith("...");
+	}
+
+	@Test
+	@DisplayName("인자 배열은 각 인자를 따로 제한해 렌더링한다")
+	void 인자_배열은_각_인자를_따로_제한해_렌더링한다() {
+		// 테스트 대상: LogValueRenderer#renderArgs, 의도: null, 컬렉션, 배열 인자가 안전하게 요약되는지 검증
+		String rendered = renderer.renderArgs(new Object[]{null, List.of(1, 2, 3), new byte[16]});
+
+		assertThat(rendered).isEqualTo("[null, [1, 2, ...(+1)], byte[16]]");
+	}
+}
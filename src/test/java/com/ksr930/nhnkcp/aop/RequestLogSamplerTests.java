@@ -0,0 +1,25 @@
+package com.ksr930.nhnkcp.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ksr930.nhnkcp.aop.RequestLogSampler.LogMode;
+import com.ksr930.nhnkcp.config.RequestLoggingProperties;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestLogSamplerTests {
+	@Test
+	@DisplayName("추적 헤더는 켜 둔 동안에만 따른다")
+	void 추적_헤더는_켜_둔_동안에만_따른다() {
+		// 테스트 대상: RequestLogSampler#decide, 의도: 클라이언트 헤더만으로는 전체 추적이 켜지지 않고, 운영자가 허용한 뒤에만 켜지는지 검증
+		RequestLogSampler sampler = new RequestLogSampler(
+				new RequestLoggingProperties(true, 0, Map.of(), 256, 3, "X-Trace-Request", false));
+
+		assertThat(sampler.decide("GET /api/orders/{id}", true)).isEqualTo(LogMode.OFF);
+
+		sampler.setTraceHeaderEnabled(true);
+		assertThat(sampler.decide("GET /api/orders/{id}", true)).isEqualTo(LogMode.TRACE);
+		assertThat(sampler.decide("GET /api/orders/{id}", false)).isEqualTo(LogMode.OFF);
+	}
+}
@@ -0,0 +1,50 @@
+package com.ksr930.nhnkcp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdmissionControlDataSourceTests {
+	@Test
+	@DisplayName("허가를 모두 쓰면 대기 후 실패하고 커넥션을 닫으면 허가가 돌아온다")
+	void 허가를_모두_쓰면_대기_후_실패하고_커넥션을_닫으면_허가가_돌아온다() throws Exception {
+		// 테스트 대상: AdmissionControlDataSource#getConnection, 의도: 허가 수 초과 시 제한 시간 후 실패, close 시 한 번만 반환되는지 검증
+		DataSource target = mock(DataSource.class);
+		when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+		AdmissionControlDataSource dataSource = new AdmissionControlDataSource(target, 1, Duration.ofMillis(50));
+
+		Connection held = dataSource.getConnection();
+		assertThat(dataSource.availablePermits()).isZero();
+		assertThatThrownBy(dataSource::getConnection).isInstanceOf(AdmissionControlDataSource.PermitTimeoutException.class);
+		assertThat(dataSource.permitWaits()).isEqualTo(2);
+		assertThat(dataSource.maxPermitWaitNanos()).isGreaterThanOrEqualTo(Duration.ofMillis(50).toNanos());
+
+		held.close();
+		held.close();
+		assertThat(dataSource.availablePermits()).isEqualTo(1);
+		dataSource.getConnection().close();
+		assertThat(dataSource.availablePermits()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("커넥션을 얻지 못하면 허가를 돌려준다")
+	void 커넥션을_얻지_못하면_허가를_돌려준다() throws Exception {
+		// 테스트 대상: AdmissionControlDataSource#getConnection, 의도: 하위 풀 실패 시 허가가 새지 않는지 검증
+		DataSource target = mock(DataSource.class);
+		when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool timeout"));
+		AdmissionControlDataSource dataSource = new AdmissionControlDataSource(target, 1, Duration.ofMillis(50));
+
+		assertThatThrownBy(dataSource::getConnection)
+				.isInstanceOf(SQLTransientConnectionException.class)
+				.isNotInstanceOf(AdmissionControlDataSource.PermitTimeoutException.class);
+		assertThat(dataSource.availablePermits()).isEqualTo(1);
+	}
+}
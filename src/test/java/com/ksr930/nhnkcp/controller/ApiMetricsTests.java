@@ -0,0 +1,57 @@
+package com.ksr930.nhnkcp.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.search.Search;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ApiMetricsTests {
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	@DisplayName("컨트롤러 지연과 오류 코드를 기록한다")
+	void 컨트롤러_지연과_오류_코드를_기록한다() throws Exception {
+		// 테스트 대상: ControllerMetricsAspect, GlobalExceptionHandler, 의도: 실패한 호출이 error 히스토그램과 NOT_FOUND 카운터에 반영되는지 검증
+		double notFoundBefore = meterRegistry.get("nhnkcp.errors").tag("code", "NOT_FOUND").counter().count();
+		long errorsBefore = latency("error").map(Timer::count).orElse(0L);
+
+		mockMvc.perform(get("/api/products/999999"))
+				.andExpect(status().isNotFound());
+
+		assertThat(meterRegistry.get("nhnkcp.errors").tag("code", "NOT_FOUND").counter().count())
+				.isEqualTo(notFoundBefore + 1);
+		assertThat(latency("error").orElseThrow().count()).isEqualTo(errorsBefore + 1);
+		assertThat(meterRegistry.get("nhnkcp.controller.inflight")
+				.tag("controller", "ProductController")
+				.tag("method", "get")
+				.gauge()
+				.value()).isZero();
+		// 발생하지 않은 오류 코드도 미리 등록되어 있어야 한다.
+		assertThat(meterRegistry.get("nhnkcp.errors").tag("code", "OUT_OF_STOCK").counter()).isNotNull();
+	}
+
+	private Optional<Timer> latency(String outcome) {
+		return Optional.ofNullable(Search.in(meterRegistry)
+				.name("nhnkcp.controller.latency")
+				.tag("controller", "ProductController")
+				.tag("method", "get")
+				.tag("outcome", outcome)
+				.timer());
+	}
+}
@@ -2,21 +2,36 @@ package com.ksr930.nhnkcp.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.dto.CountMode;
+import com.ksr930.nhnkcp.dto.CursorPage;
+import com.ksr930.nhnkcp.dto.order.ExportFormat;
 import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderExportFilter;
+import com.ksr930.nhnkcp.dto.order.OrderFields;
 import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
 import com.ksr930.nhnkcp.dto.order.OrderResponse;
 import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
+import com.ksr930.nhnkcp.service.OrderExportService;
 import com.ksr930.nhnkcp.service.OrderService;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,8 +40,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.CannotCreateTransactionException;
 
 @WebMvcTest(OrderController.class)
 class OrderControllerTests {
@@ -39,6 +58,9 @@ class OrderControllerTests {
 	@MockitoBean
 	private OrderService orderService;
 
+	@MockitoBean
+	private OrderExportService orderExportService;
+
 	@Test
 	@DisplayName("주문을 생성한다")
 	void 주문을_생성한다() throws Exception {
@@ -74,7 +96,7 @@ class OrderControllerTests {
 	@DisplayName("주문 단건을 조회한다")
 	void 주문을_단건_조회한다() throws Exception {
 		// 테스트 대상: OrderController#get, 의도: 단건 조회 응답 검증
-		when(orderService.get(1L)).thenReturn(orderResponse(1L));
+		when(orderService.get(1L, OrderFields.FULL)).thenReturn(orderResponse(1L));
 
 		mockMvc.perform(get("/api/orders/1"))
 				.andExpect(status().isOk())
@@ -87,7 +109,7 @@ class OrderControllerTests {
 		// 테스트 대상: OrderController#list, 의도: 페이징 목록 조회 응답 검증
 		PageImpl<OrderResponse> page =
 				new PageImpl<>(List.of(orderResponse(1L)), PageRequest.of(0, 10), 1);
-		when(orderService.list(any(Pageable.class))).thenReturn(page);
+		when(orderService.list(any(Pageable.class), eq(CountMode.EXACT), eq(OrderFields.FULL))).thenReturn(page);
 
 		mockMvc.perform(get("/api/orders?page=0&size=10"))
 				.andExpect(status().isOk())
@@ -100,13 +122,14 @@ class OrderControllerTests {
 		// 테스트 대상: OrderController#list (status 필터), 의도: status 파라미터 분기 검증
 		PageImpl<OrderResponse> page =
 				new PageImpl<>(List.of(orderResponse(1L)), PageRequest.of(0, 10), 1);
-		when(orderService.listByStatus(eq(OrderStatus.RECEIVED), any(Pageable.class))).thenReturn(page);
+		when(orderService.listByStatus(eq(OrderStatus.RECEIVED), any(Pageable.class), eq(CountMode.EXACT), eq(OrderFields.FULL)))
+				.thenReturn(page);
 
 		mockMvc.perform(get("/api/orders?status=RECEIVED&page=0&size=10"))
 				.andExpect(status().isOk())
 				.andExpect(jsonPath("$.data.content[0].id").value(1L));
 
-		verify(orderService).listByStatus(eq(OrderStatus.RECEIVED), any(Pageable.class));
+		verify(orderService).listByStatus(eq(OrderStatus.RECEIVED), any(Pageable.class), eq(CountMode.EXACT), eq(OrderFields.FULL));
 	}
 
 	@Test
@@ -115,13 +138,83 @@ class OrderControllerTests {
 		// 테스트 대상: OrderController#list (기간 필터), 의도: start/end 파라미터 분기 검증
 		PageImpl<OrderResponse> page =
 				new PageImpl<>(List.of(orderResponse(1L)), PageRequest.of(0, 10), 1);
-		when(orderService.listByPeriod(any(), any(), any(Pageable.class))).thenReturn(page);
+		when(orderService.listByPeriod(any(), any(), any(Pageable.class), eq(CountMode.EXACT), eq(OrderFields.FULL)))
+				.thenReturn(page);
 
 		mockMvc.perform(get("/api/orders?start=2025-01-01T00:00:00&end=2025-12-31T23:59:59&page=0&size=10"))
 				.andExpect(status().isOk())
 				.andExpect(jsonPath("$.data.content[0].id").value(1L));
 	}
 
+	@Test
+	@DisplayName("건수 없이 주문 목록을 조회한다")
+	void 건수_없이_주문_목록을_조회한다() throws Exception {
+		// 테스트 대상: OrderController#list (count=NONE), 의도: count 파라미터가 Slice 조회로 분기되는지 검증
+		SliceImpl<OrderResponse> slice = new SliceImpl<>(List.of(orderResponse(1L)), PageRequest.of(0, 10), true);
+		when(orderService.list(any(Pageable.class), eq(CountMode.NONE), eq(OrderFields.FULL))).thenReturn(slice);
+
+		mockMvc.perform(get("/api/orders?count=NONE&page=0&size=10"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.content[0].id").value(1L))
+				.andExpect(jsonPath("$.data.last").value(false))
+				.andExpect(jsonPath("$.data.totalElements").doesNotExist());
+	}
+
+	@Test
+	@DisplayName("항목 없이 주문 단건을 조회한다")
+	void 항목_없이_주문_단건을_조회한다() throws Exception {
+		// 테스트 대상: OrderController#get (fields=SUMMARY), 의도: fields 파라미터 분기 및 items 생략 응답 검증
+		when(orderService.get(1L, OrderFields.SUMMARY))
+				.thenReturn(new OrderResponse(1L, OrderStatus.PENDING, null, null, null));
+
+		mockMvc.perform(get("/api/orders/1?fields=SUMMARY"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.id").value(1L))
+				.andExpect(jsonPath("$.data.items").doesNotExist());
+	}
+
+	@Test
+	@DisplayName("커서 기반으로 주문 목록을 조회한다")
+	void 커서_기반으로_주문_목록을_조회한다() throws Exception {
+		// 테스트 대상: OrderController#scroll, 의도: cursor/size 파라미터 전달 및 다음 커서 응답 검증
+		CursorPage<OrderResponse> page = new CursorPage<>(List.of(orderResponse(1L)), 1, true, "next");
+		when(orderService.scroll(eq(OrderStatus.PENDING), any(), any(), eq("abc"), eq(1))).thenReturn(page);
+
+		mockMvc.perform(get("/api/orders/scroll?status=PENDING&cursor=abc&size=1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.content[0].id").value(1L))
+				.andExpect(jsonPath("$.data.nextCursor").value("next"))
+				.andExpect(jsonPath("$.data.hasNext").value(true));
+	}
+
+	@Test
+	@DisplayName("주문을 CSV 로 내보낸다")
+	void 주문을_CSV_로_내보낸다() throws Exception {
+		// 테스트 대상: OrderController#export, 의도: format/status 파라미터 전달과 스트리밍 응답 헤더 검증
+		when(orderExportService.mediaType(ExportFormat.CSV)).thenReturn(MediaType.parseMediaType("text/csv;charset=UTF-8"));
+		doAnswer(invocation -> {
+			invocation.<OutputStream>getArgument(2).write("order_id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+			return null;
+		}).when(orderExportService).export(eq(ExportFormat.CSV), eq(new OrderExportFilter(OrderStatus.PENDING, null, null)), any());
+
+		MvcResult result = mockMvc.perform(get("/api/orders/export?format=CSV&status=PENDING"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Disposition", "attachment; filename=\"orders.csv\""))
+				.andExpect(content().string("order_id\r\n1\r\n"));
+	}
+
+	@Test
+	@DisplayName("내보내기 기간이 뒤집히면 실패한다")
+	void 내보내기_기간이_뒤집히면_실패한다() throws Exception {
+		// 테스트 대상: OrderController#export, 의도: start 가 end 보다 늦으면 스트리밍 전에 400 응답 검증
+		mockMvc.perform(get("/api/orders/export?start=2026-01-02T00:00:00&end=2026-01-01T00:00:00"))
+				.andExpect(status().isBadRequest());
+	}
+
 	@Test
 	@DisplayName("주문 생성 요청이 잘못되면 실패한다")
 	void 주문_생성_요청이_잘못되면_실패한다() throws Exception {
@@ -132,6 +225,31 @@ class OrderControllerTests {
 				.andExpect(status().isBadRequest());
 	}
 
+	@Test
+	@DisplayName("커넥션 대기 시간이 지나면 SERVICE_BUSY 로 응답한다")
+	void 커넥션_대기_시간이_지나면_SERVICE_BUSY_로_응답한다() throws Exception {
+		// 테스트 대상: GlobalExceptionHandler#handleConnectionUnavailable, 의도: 풀 대기 시간 초과는 과부하(503 SERVICE_BUSY)로 응답하는지 검증
+		when(orderService.get(1L, OrderFields.FULL)).thenThrow(new CannotCreateTransactionException("no connection",
+				new SQLTransientConnectionException("Connection is not available, request timed out after 3000ms")));
+
+		mockMvc.perform(get("/api/orders/1"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(jsonPath("$.code").value("SERVICE_BUSY"));
+	}
+
+	@Test
+	@DisplayName("DB 에 연결하지 못하면 DATABASE_UNAVAILABLE 로 응답한다")
+	void DB_에_연결하지_못하면_DATABASE_UNAVAILABLE_로_응답한다() throws Exception {
+		// 테스트 대상: GlobalExceptionHandler#handleConnectionUnavailable, 의도: DB 장애를 과부하와 구분해 응답하는지 검증
+		when(orderService.get(1L, OrderFields.FULL)).thenThrow(new CannotCreateTransactionException("no connection",
+				new SQLTransientConnectionException("Connection is not available, request timed out after 3000ms",
+						new SQLException("Connection refused"))));
+
+		mockMvc.perform(get("/api/orders/1"))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(jsonPath("$.code").value("DATABASE_UNAVAILABLE"));
+	}
+
 	private OrderResponse orderResponse(Long id) {
 		return new OrderResponse(id, OrderStatus.PENDING, null, null, List.of());
 	}
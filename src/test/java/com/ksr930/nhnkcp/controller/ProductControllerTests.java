@@ -12,6 +12,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.dto.CountMode;
 import com.ksr930.nhnkcp.dto.product.ProductRequest;
 import com.ksr930.nhnkcp.dto.product.ProductResponse;
 import com.ksr930.nhnkcp.service.ProductService;
@@ -84,7 +85,7 @@ class ProductControllerTests {
 		// 테스트 대상: ProductController#list, 의도: 페이징 목록 조회 응답 검증
 		PageImpl<ProductResponse> page =
 				new PageImpl<>(List.of(productResponse(1L)), PageRequest.of(0, 10), 1);
-		when(productService.list(any(Pageable.class))).thenReturn(page);
+		when(productService.list(any(Pageable.class), eq(CountMode.EXACT))).thenReturn(page);
 
 		mockMvc.perform(get("/api/products?page=0&size=10"))
 				.andExpect(status().isOk())
@@ -97,13 +98,13 @@ class ProductControllerTests {
 		// 테스트 대상: ProductController#list (category 필터), 의도: category 파라미터 분기 검증
 		PageImpl<ProductResponse> page =
 				new PageImpl<>(List.of(productResponse(1L)), PageRequest.of(0, 10), 1);
-		when(productService.listByCategory(eq(Category.BEVERAGE), any(Pageable.class))).thenReturn(page);
+		when(productService.listByCategory(eq(Category.BEVERAGE), any(Pageable.class), eq(CountMode.EXACT))).thenReturn(page);
 
 		mockMvc.perform(get("/api/products?category=BEVERAGE&page=0&size=10"))
 				.andExpect(status().isOk())
 				.andExpect(jsonPath("$.data.content[0].id").value(1L));
 
-		verify(productService).listByCategory(eq(Category.BEVERAGE), any(Pageable.class));
+		verify(productService).listByCategory(eq(Category.BEVERAGE), any(Pageable.class), eq(CountMode.EXACT));
 	}
 
 	@Test
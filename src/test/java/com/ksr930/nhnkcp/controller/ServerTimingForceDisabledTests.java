@@ -0,0 +1,33 @@
+package com.ksr930.nhnkcp.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+// 기본 설정(force-enabled=false)에서는 클라이언트가 기록을 켤 수 없다.
+@SpringBootTest(properties = "nhnkcp.server-timing.sample-rate=0")
+@AutoConfigureMockMvc
+class ServerTimingForceDisabledTests {
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	@DisplayName("강제 헤더를 켜지 않으면 클라이언트가 보낸 강제 헤더를 무시한다")
+	void 강제_헤더를_켜지_않으면_클라이언트가_보낸_강제_헤더를_무시한다() throws Exception {
+		// 테스트 대상: ServerTimingFilter, 의도: 기본 설정에서 true/debug 헤더로 Server-Timing 기록을 강제할 수 없는지 검증
+		mockMvc.perform(get("/api/products/999999").header("X-Server-Timing", "true"))
+				.andExpect(status().isNotFound())
+				.andExpect(header().doesNotExist("Server-Timing"));
+		mockMvc.perform(get("/api/products/999999").header("X-Server-Timing", "debug").header("TE", "trailers"))
+				.andExpect(status().isNotFound())
+				.andExpect(header().doesNotExist("Server-Timing"))
+				.andExpect(header().doesNotExist("Trailer"));
+	}
+}
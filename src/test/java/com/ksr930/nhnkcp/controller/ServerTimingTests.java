@@ -0,0 +1,66 @@
+package com.ksr930.nhnkcp.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.dto.product.ProductRequest;
+import com.ksr930.nhnkcp.dto.product.ProductResponse;
+import com.ksr930.nhnkcp.service.OrderService;
+import com.ksr930.nhnkcp.service.ProductService;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+		"nhnkcp.server-timing.sample-rate=0",
+		"nhnkcp.server-timing.force-enabled=true"
+})
+@AutoConfigureMockMvc
+class ServerTimingTests {
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Test
+	@DisplayName("강제 헤더가 있는 요청은 계층 별 시간과 SQL 수를 Server-Timing 헤더로 돌려준다")
+	void 강제_헤더가_있는_요청은_Server_Timing_헤더를_돌려준다() throws Exception {
+		// 테스트 대상: ServerTimingFilter, RequestTimingAspect, SqlTimingDataSource, 의도: 컨트롤러/서비스/리포지토리/SQL 구간이 헤더에 담기는지 검증
+		ProductResponse product = productService.create(new ProductRequest("태블릿", 690000, 3, Category.ELECTRONICS));
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(product.id(), 1))));
+
+		String serverTiming = mockMvc.perform(get("/api/orders/{id}", order.id()).header("X-Server-Timing", "true"))
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getHeader("Server-Timing");
+
+		assertThat(serverTiming)
+				.startsWith("app;dur=")
+				.contains("controller;dur=", "service;dur=", "repository;dur=")
+				.containsPattern("sql;dur=[0-9.]+;desc=\"[1-9][0-9]* queries\"");
+	}
+
+	@Test
+	@DisplayName("샘플링되지 않은 요청에는 Server-Timing 헤더가 없다")
+	void 샘플링되지_않은_요청에는_Server_Timing_헤더가_없다() throws Exception {
+		// 테스트 대상: ServerTimingFilter, 의도: sample-rate 0 에서 강제 헤더가 없으면 기록하지 않는지 검증
+		mockMvc.perform(get("/api/products/999999"))
+				.andExpect(status().isNotFound())
+				.andExpect(header().doesNotExist("Server-Timing"));
+	}
+}
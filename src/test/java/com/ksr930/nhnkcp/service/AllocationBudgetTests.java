@@ -0,0 +1,187 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.ksr930.nhnkcp.config.CacheConfig;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.dto.CountMode;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderFields;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.dto.product.ProductRequest;
+import com.ksr930.nhnkcp.dto.product.ProductResponse;
+import com.ksr930.nhnkcp.monitoring.ThreadAllocation;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+/**
+ * 핫 패스 한 번 호출의 할당 바이트 상한. 엔티티를 더 읽거나 로그 포맷팅이 끼어드는 회귀를 빌드에서 잡는다.
+ * JIT 와 캐시가 자리 잡도록 먼저 여러 번 호출한 뒤, 반복 측정의 최솟값을 예산과 비교한다.
+ * 최솟값을 쓰므로 캐시 만료나 스케줄러처럼 가끔 끼는 할당은 결과에 섞이지 않는다.
+ * 예산은 JDK 21 에서 전체 테스트를 돌려 잰 최솟값(기준값)에 25% 여유를 더한 값이다. 실패 메시지에 측정값이 나오므로,
+ * 의도한 변경으로 늘어나면 그 값으로 기준값을 다시 맞춘다.
+ */
+@SpringBootTest(properties = "nhnkcp.logging.request.trace-header-enabled=true")
+@AutoConfigureMockMvc
+class AllocationBudgetTests {
+	private static final int WARMUP = 200;
+	private static final int MEASURED = 30;
+
+	private static final double HEADROOM = 1.25;
+
+	private static final long CREATE_BUDGET = budget(83_592);
+	private static final long GET_BUDGET = budget(18_696);
+	private static final long LIST_BUDGET = budget(105_704);
+	private static final long PRODUCT_GET_BUDGET = budget(16_640);
+	private static final long TRACED_REQUEST_BUDGET = budget(97_624);
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	private ProductResponse product;
+
+	@BeforeEach
+	void setUp() {
+		assumeTrue(ThreadAllocation.currentThreadAllocatedBytes() >= 0, "스레드 할당 카운터를 지원하지 않는 JVM");
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+		product = productService.create(new ProductRequest("예산 측정 상품", 1000, 1_000_000, Category.FOOD));
+	}
+
+	@Test
+	@DisplayName("주문 생성 한 번의 할당이 예산 안에 있다")
+	void 주문_생성_할당이_예산_안에_있다() {
+		// 테스트 대상: OrderService#create, 의도: 상품 2개짜리 주문 생성의 할당 바이트가 예산을 넘지 않는지 검증
+		ProductResponse other = productService.create(new ProductRequest("예산 측정 상품2", 2000, 1_000_000, Category.FOOD));
+		OrderCreateRequest request = new OrderCreateRequest(List.of(
+				new OrderItemRequest(product.id(), 1),
+				new OrderItemRequest(other.id(), 2)
+		));
+
+		long allocated = minAllocated(() -> orderService.create(request));
+
+		assertThat(allocated).as("측정값 %d bytes", allocated).isLessThanOrEqualTo(CREATE_BUDGET);
+	}
+
+	@Test
+	@DisplayName("주문 단건 조회 한 번의 할당이 예산 안에 있다")
+	void 주문_단건_조회_할당이_예산_안에_있다() {
+		// 테스트 대상: OrderService#get, 의도: fetch join 단건 조회(캐시 대상이 아닌 PENDING 주문)의 할당 바이트가 예산을 넘지 않는지 검증
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(product.id(), 1))));
+
+		long allocated = minAllocated(() -> orderService.get(order.id()));
+
+		assertThat(allocated).as("측정값 %d bytes", allocated).isLessThanOrEqualTo(GET_BUDGET);
+		assertThat(registry.get("nhnkcp.service.allocated")
+				.tag("service", "OrderService")
+				.tag("method", "get")
+				.summary()
+				.count()).isPositive();
+	}
+
+	@Test
+	@DisplayName("주문 목록 20건 조회 한 번의 할당이 예산 안에 있다")
+	void 주문_목록_조회_할당이_예산_안에_있다() {
+		// 테스트 대상: OrderService#list, 의도: 20건 페이지(건수 조회 포함)의 할당 바이트가 예산을 넘지 않는지 검증
+		for (int i = 0; i < 20; i++) {
+			orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(product.id(), 1))));
+		}
+		PageRequest page = PageRequest.of(0, 20);
+
+		long allocated = minAllocated(() -> orderService.list(page, CountMode.EXACT, OrderFields.FULL));
+
+		assertThat(allocated).as("측정값 %d bytes", allocated).isLessThanOrEqualTo(LIST_BUDGET);
+	}
+
+	@Test
+	@DisplayName("요청 로그를 강제로 켠 주문 단건 조회 요청 한 번의 할당이 예산 안에 있다")
+	void 요청_로그를_강제로_켠_주문_단건_조회_할당이_예산_안에_있다() {
+		// 테스트 대상: RequestLoggingAspect, LogValueRenderer, 의도: 추적 헤더로 컨트롤러/서비스 로그를 모두 남기는 요청(직렬화 포함)의 할당 바이트가 예산을 넘지 않는지 검증
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(product.id(), 1))));
+		RequestBuilder request = get("/api/orders/{id}", order.id()).header("X-Trace-Request", "true");
+
+		long allocated = minAllocated(() -> perform(request));
+
+		assertThat(allocated).as("측정값 %d bytes", allocated).isLessThanOrEqualTo(TRACED_REQUEST_BUDGET);
+	}
+
+	@Test
+	@DisplayName("캐시를 거치지 않은 상품 단건 조회 한 번의 할당이 예산 안에 있다")
+	void 상품_단건_조회_할당이_예산_안에_있다() {
+		// 테스트 대상: ProductService#get, 의도: 캐시 미스 경로(DB 조회 + 응답 변환)의 할당 바이트가 예산을 넘지 않는지 검증
+		List<Long> samples = new ArrayList<>();
+		for (int i = 0; i < WARMUP + MEASURED; i++) {
+			Objects.requireNonNull(cacheManager.getCache(CacheConfig.PRODUCT)).clear();
+			long before = ThreadAllocation.currentThreadAllocatedBytes();
+			productService.get(product.id());
+			if (i >= WARMUP) {
+				samples.add(ThreadAllocation.currentThreadAllocatedBytes() - before);
+			}
+		}
+
+		long allocated = samples.stream().mapToLong(Long::longValue).min().orElseThrow();
+		assertThat(allocated).as("측정값 %d bytes", allocated).isLessThanOrEqualTo(PRODUCT_GET_BUDGET);
+	}
+
+	// MockMvc 는 호출 스레드에서 요청을 처리하므로 스레드 할당 카운터로 요청 전체를 잴 수 있다.
+	private void perform(RequestBuilder request) {
+		try {
+			mockMvc.perform(request).andExpect(status().isOk());
+		} catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static long budget(long baseline) {
+		return (long) (baseline * HEADROOM);
+	}
+
+	private static long minAllocated(Runnable call) {
+		for (int i = 0; i < WARMUP; i++) {
+			call.run();
+		}
+		long min = Long.MAX_VALUE;
+		for (int i = 0; i < MEASURED; i++) {
+			long before = ThreadAllocation.currentThreadAllocatedBytes();
+			call.run();
+			min = Math.min(min, ThreadAllocation.currentThreadAllocatedBytes() - before);
+		}
+		return min;
+	}
+}
@@ -0,0 +1,8 @@
+package com.ksr930.nhnkcp.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 두 요청이 한 배치로 합쳐지면 도착 순서상 앞선 요청만 차감되고 나머지는 OUT_OF_STOCK 이어야 한다.
+@SpringBootTest(properties = "nhnkcp.stock.mode=combining")
+class CombiningOrderServiceConcurrencyTests extends OrderServiceConcurrencyTests {
+}
@@ -0,0 +1,165 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.exception.ApiException;
+import com.ksr930.nhnkcp.exception.ErrorCode;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import com.ksr930.nhnkcp.service.stock.CombiningStockEngine;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = "nhnkcp.stock.mode=combining")
+class CombiningStockEngineTests {
+	private static final int THREADS = 32;
+	private static final int ORDERS_PER_THREAD = 5;
+
+	@Autowired
+	private CombiningStockEngine combiningStockEngine;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void clearData() {
+		jdbcTemplate.update("delete from stock_reservations");
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("한 상품에 차감 요청이 몰려도 재고만큼만 성공한다")
+	void 한_상품에_차감_요청이_몰려도_재고만큼만_성공한다() throws Exception {
+		// 테스트 대상: CombiningStockEngine#decrease, 의도: 합쳐진 배치에서도 요청별 성공/OUT_OF_STOCK 이 재고와 정확히 맞는지 검증
+		Product product = createProduct(100);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		AtomicInteger succeeded = new AtomicInteger();
+		AtomicInteger outOfStock = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int j = 0; j < ORDERS_PER_THREAD; j++) {
+					try {
+						transactionTemplate.executeWithoutResult(status ->
+								combiningStockEngine.decrease(quantityOf(product.getId(), 1)));
+						succeeded.incrementAndGet();
+					} catch (ApiException ex) {
+						assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.OUT_OF_STOCK);
+						outOfStock.incrementAndGet();
+					}
+				}
+				return null;
+			}));
+		}
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executor.shutdown();
+
+		// 기대 결과: 160건 중 100건만 성공하고 재고는 0 이 된다.
+		assertThat(succeeded.get()).isEqualTo(100);
+		assertThat(outOfStock.get()).isEqualTo(THREADS * ORDERS_PER_THREAD - 100);
+		assertThat(stockOf(product.getId())).isZero();
+	}
+
+	@Test
+	@DisplayName("호출한 트랜잭션이 롤백되면 차감한 재고를 되돌린다")
+	void 호출한_트랜잭션이_롤백되면_차감한_재고를_되돌린다() {
+		// 테스트 대상: CombiningStockEngine#decrease (예약 해제), 의도: 리더가 먼저 커밋한 차감분이 호출 트랜잭션 롤백 시 예약과 함께 복구되는지 검증
+		Product product = createProduct(10);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+			combiningStockEngine.decrease(quantityOf(product.getId(), 4));
+			throw new IllegalStateException("rollback");
+		})).isInstanceOf(IllegalStateException.class);
+
+		assertThat(stockOf(product.getId())).isEqualTo(10);
+		assertThat(reservationCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("호출한 트랜잭션이 커밋되면 예약을 남기지 않는다")
+	void 호출한_트랜잭션이_커밋되면_예약을_남기지_않는다() {
+		// 테스트 대상: CombiningStockEngine#decrease (예약 확정), 의도: 커밋된 차감은 예약 행이 지워져 정리 대상이 되지 않는지 검증
+		Product product = createProduct(10);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		transactionTemplate.executeWithoutResult(status -> combiningStockEngine.decrease(quantityOf(product.getId(), 4)));
+		combiningStockEngine.releaseExpiredReservations();
+
+		assertThat(stockOf(product.getId())).isEqualTo(6);
+		assertThat(reservationCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("오래 남은 예약은 정리 작업이 재고로 되돌린다")
+	void 오래_남은_예약은_정리_작업이_재고로_되돌린다() {
+		// 테스트 대상: CombiningStockEngine#releaseExpiredReservations, 의도: 롤백 직후 복구가 누락된 예약도 결국 재고로 돌아오는지 검증
+		Product product = createProduct(6);
+		jdbcTemplate.update("insert into stock_reservations (id, product_id, quantity, created_at) values (?, ?, ?, ?)",
+				"stale-reservation", product.getId(), 4, Timestamp.valueOf(LocalDateTime.now().minusHours(1)));
+
+		combiningStockEngine.releaseExpiredReservations();
+
+		// 기대 결과: 예약 수량만큼 재고가 복구되고 예약 행은 지워진다.
+		assertThat(stockOf(product.getId())).isEqualTo(10);
+		assertThat(reservationCount()).isZero();
+	}
+
+	private int reservationCount() {
+		return jdbcTemplate.queryForObject("select count(*) from stock_reservations", Integer.class);
+	}
+
+	private int stockOf(Long productId) {
+		return productRepository.findStockQuantity(productId).orElseThrow();
+	}
+
+	private TreeMap<Long, Integer> quantityOf(Long productId, int quantity) {
+		TreeMap<Long, Integer> quantityByProductId = new TreeMap<>();
+		quantityByProductId.put(productId, quantity);
+		return quantityByProductId;
+	}
+
+	private Product createProduct(int stock) {
+		Product product = new Product();
+		product.setName("합치기 테스트");
+		product.setPrice(1000);
+		product.setStockQuantity(stock);
+		product.setCategory(Category.BEVERAGE);
+		return productRepository.save(product);
+	}
+}
@@ -0,0 +1,103 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
+import com.ksr930.nhnkcp.dto.product.ProductRequest;
+import com.ksr930.nhnkcp.dto.product.ProductResponse;
+import com.ksr930.nhnkcp.monitoring.ProductLockProfiler;
+import com.ksr930.nhnkcp.monitoring.ProductLockStats;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 기본 재고 모드(CONDITIONAL_UPDATE)의 락 프로파일.
+@SpringBootTest
+class ConditionalUpdateLockProfilerTests {
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private ProductLockProfiler lockProfiler;
+
+	@BeforeEach
+	void clearData() {
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+		lockProfiler.reset();
+	}
+
+	@Test
+	@DisplayName("조건부 UPDATE 배치도 상품 별로 락 획득이 기록된다")
+	void 조건부_UPDATE_배치도_상품_별로_락_획득이_기록된다() {
+		// 테스트 대상: ProductLockProfiler#lockAll, 의도: 기본 모드에서도 배치에 든 상품마다 획득 횟수가 집계되는지 검증
+		ProductResponse first = productService.create(new ProductRequest("머그컵", 9000, 10, Category.ETC));
+		ProductResponse second = productService.create(new ProductRequest("텀블러", 15000, 10, Category.ETC));
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(
+				new OrderItemRequest(first.id(), 1),
+				new OrderItemRequest(second.id(), 1))));
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.COMPLETED));
+
+		assertThat(lockProfiler.hottest(ProductLockProfiler.Ranking.WAIT, 10))
+				.extracting(ProductLockStats::productId, ProductLockStats::acquisitions)
+				.containsExactlyInAnyOrder(tuple(first.id(), 1L), tuple(second.id(), 1L));
+	}
+
+	@Test
+	@DisplayName("조건부 UPDATE 배치도 상품마다 StockLock JFR 이벤트를 남긴다")
+	void 조건부_UPDATE_배치도_상품마다_StockLock_JFR_이벤트를_남긴다() throws Exception {
+		// 테스트 대상: ProductLockProfiler#lockAll (JFR), 의도: 기본 모드의 재고 차감도 상품 별 StockLock 이벤트로 기록되는지 검증
+		ProductResponse first = productService.create(new ProductRequest("연필", 500, 10, Category.ETC));
+		ProductResponse second = productService.create(new ProductRequest("지우개", 300, 10, Category.ETC));
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(
+				new OrderItemRequest(first.id(), 1),
+				new OrderItemRequest(second.id(), 2))));
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+
+		List<RecordedEvent> events;
+		try (Recording recording = new Recording()) {
+			recording.enable("nhnkcp.StockLock").withoutThreshold();
+			recording.start();
+			orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.COMPLETED));
+			recording.stop();
+			Path file = Files.createTempFile("nhnkcp-", ".jfr");
+			try {
+				recording.dump(file);
+				events = RecordingFile.readAllEvents(file);
+			} finally {
+				Files.deleteIfExists(file);
+			}
+		}
+
+		assertThat(events)
+				.filteredOn(event -> event.getEventType().getName().equals("nhnkcp.StockLock"))
+				.extracting(event -> event.getLong("productId"), event -> event.getBoolean("timedOut"))
+				.containsExactlyInAnyOrder(tuple(first.id(), false), tuple(second.id(), false));
+	}
+}
@@ -0,0 +1,100 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
+import com.ksr930.nhnkcp.dto.product.ProductRequest;
+import com.ksr930.nhnkcp.dto.product.ProductResponse;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "nhnkcp.stock.mode=pessimistic")
+class JfrEventTests {
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@BeforeEach
+	void clearData() {
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("주문 생성부터 완료까지 주문, 재고 락, 재고 변경, 상태 전이 JFR 이벤트가 남는다")
+	void 주문_생성부터_완료까지_JFR_이벤트가_남는다() throws Exception {
+		// 테스트 대상: nhnkcp.* JFR 이벤트, 의도: 기록 중일 때 각 이벤트가 업무 필드와 함께 커밋되는지 검증
+		ProductResponse product = productService.create(new ProductRequest("노트북", 1890000, 5, Category.ELECTRONICS));
+
+		List<RecordedEvent> events;
+		OrderResponse order;
+		try (Recording recording = new Recording()) {
+			recording.enable("nhnkcp.OrderCreated").withoutThreshold();
+			recording.enable("nhnkcp.StockLock").withoutThreshold();
+			recording.enable("nhnkcp.StockMutation").withoutThreshold();
+			recording.enable("nhnkcp.OrderStatusTransition").withoutThreshold();
+			recording.enable("nhnkcp.ApiError").withoutThreshold();
+			recording.start();
+
+			order = orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(product.id(), 2))));
+			orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+			orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.COMPLETED));
+
+			recording.stop();
+			Path file = Files.createTempFile("nhnkcp-", ".jfr");
+			try {
+				recording.dump(file);
+				events = RecordingFile.readAllEvents(file);
+			} finally {
+				Files.deleteIfExists(file);
+			}
+		}
+
+		assertThat(eventsNamed(events, "nhnkcp.OrderCreated")).singleElement().satisfies(event -> {
+			assertThat(event.getLong("orderId")).isEqualTo(order.id());
+			assertThat(event.getInt("totalQuantity")).isEqualTo(2);
+		});
+		assertThat(eventsNamed(events, "nhnkcp.OrderStatusTransition"))
+				.extracting(event -> event.getString("from") + "->" + event.getString("to") + "@" + event.getString("handler"))
+				.containsExactly("PENDING->RECEIVED@PendingStatusHandler", "RECEIVED->COMPLETED@ReceivedStatusHandler");
+		assertThat(eventsNamed(events, "nhnkcp.StockMutation")).singleElement().satisfies(event -> {
+			assertThat(event.getString("operation")).isEqualTo("DECREASE");
+			assertThat(event.getString("mode")).isEqualTo("PESSIMISTIC");
+			assertThat(event.getLong("orderId")).isEqualTo(order.id());
+		});
+		assertThat(eventsNamed(events, "nhnkcp.StockLock")).singleElement().satisfies(event -> {
+			assertThat(event.getLong("productId")).isEqualTo(product.id());
+			assertThat(event.getBoolean("timedOut")).isFalse();
+		});
+	}
+
+	private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+		return events.stream()
+				.filter(event -> event.getEventType().getName().equals(name))
+				.toList();
+	}
+}
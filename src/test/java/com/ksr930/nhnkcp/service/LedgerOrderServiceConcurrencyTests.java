@@ -0,0 +1,27 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ksr930.nhnkcp.service.stock.LedgerStockEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "nhnkcp.stock.mode=ledger")
+class LedgerOrderServiceConcurrencyTests extends OrderServiceConcurrencyTests {
+	@Autowired
+	private LedgerStockEngine ledgerStockEngine;
+
+	@Override
+	protected int currentStock(Long productId) {
+		// 쓰기 지연된 변화량을 먼저 반영한 뒤 DB 값을 확인한다.
+		ledgerStockEngine.flush();
+		return super.currentStock(productId);
+	}
+
+	@AfterEach
+	void verifyLedgerAgainstDatabase() {
+		// 테스트 대상: LedgerStockEngine#verify, 의도: 동시성 시나리오 이후 원장과 products 테이블이 일치하는지 검증
+		assertThat(ledgerStockEngine.verify()).isEmpty();
+	}
+}
@@ -0,0 +1,8 @@
+package com.ksr930.nhnkcp.service;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 낙관적 락 모드에서는 충돌한 쪽이 재시도 후 OUT_OF_STOCK 으로 실패해야 한다.
+@SpringBootTest(properties = "nhnkcp.stock.mode=optimistic")
+class OptimisticOrderServiceConcurrencyTests extends OrderServiceConcurrencyTests {
+}
@@ -0,0 +1,159 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class OrderCreateContentionTests {
+	private static final Logger log = LoggerFactory.getLogger(OrderCreateContentionTests.class);
+	private static final int THREADS = 8;
+	private static final int ORDERS_PER_THREAD = 25;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	void clearData() {
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("상품 행 락을 다른 트랜잭션이 잡고 있어도 주문 생성은 대기하지 않는다")
+	void 상품_행_락을_다른_트랜잭션이_잡고_있어도_주문_생성은_대기하지_않는다() throws Exception {
+		// 테스트 대상: OrderService#create, 의도: 재고 확인이 PESSIMISTIC_WRITE 락과 경합하지 않는지 검증
+		Product product = createProduct("한정판", 1000, 100);
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService lockHolder = newExecutor(1);
+
+		// 준비 단계: COMPLETED 전이처럼 다른 트랜잭션이 상품 행을 잠근 채로 머무르게 한다.
+		Future<?> holder = lockHolder.submit(() -> new TransactionTemplate(transactionManager)
+				.executeWithoutResult(status -> {
+					productRepository.findByIdForUpdate(product.getId()).orElseThrow();
+					locked.countDown();
+					awaitQuietly(release);
+				}));
+		locked.await();
+
+		try {
+			long startedAt = System.nanoTime();
+			OrderResponse order = orderService.create(createOrderRequest(product.getId(), 1));
+			Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+			// 기대 결과: 락 타임아웃(3초)을 기다리지 않고 바로 주문이 생성되어야 한다.
+			assertThat(order.id()).isNotNull();
+			assertThat(elapsed).isLessThan(Duration.ofSeconds(1));
+		} finally {
+			release.countDown();
+			holder.get();
+			lockHolder.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("단일 인기 상품의 주문 생성 처리량을 락 조회 방식과 비교한다")
+	void 단일_인기_상품의_주문_생성_처리량을_락_조회_방식과_비교한다() throws Exception {
+		// 테스트 대상: OrderService#create (동시 생성), 의도: 스냅샷 조회 전후 처리량을 같은 조건에서 측정해 기록
+		Product product = createProduct("인기 상품", 1000, 100_000);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		// 변경 전: 주문 생성 트랜잭션이 상품 행에 PESSIMISTIC_WRITE 락을 잡은 채 진행되던 동작을 재현한다.
+		double lockingThroughput = measureThroughput(() -> transactionTemplate.executeWithoutResult(status -> {
+			productRepository.findByIdForUpdate(product.getId()).orElseThrow();
+			orderService.create(createOrderRequest(product.getId(), 1));
+		}));
+		double snapshotThroughput = measureThroughput(
+				() -> orderService.create(createOrderRequest(product.getId(), 1))
+		);
+
+		log.info("hot product create throughput: locking={} ops/s, snapshot={} ops/s",
+				String.format("%.1f", lockingThroughput), String.format("%.1f", snapshotThroughput));
+
+		// 기대 결과: 두 방식 모두 실패 없이 모든 주문을 생성해야 한다.
+		assertThat(orderRepository.count()).isEqualTo(2L * THREADS * ORDERS_PER_THREAD);
+	}
+
+	private double measureThroughput(Runnable createOrder) throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = newExecutor(THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(() -> {
+				awaitQuietly(start);
+				for (int j = 0; j < ORDERS_PER_THREAD; j++) {
+					createOrder.run();
+				}
+			}));
+		}
+
+		long startedAt = System.nanoTime();
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		long elapsedNanos = System.nanoTime() - startedAt;
+		executor.shutdown();
+		return THREADS * ORDERS_PER_THREAD / (elapsedNanos / 1_000_000_000.0);
+	}
+
+	// 가상 스레드 모드 하위 클래스는 요청 스레드도 가상 스레드로 바꾼다.
+	protected ExecutorService newExecutor(int threads) {
+		return Executors.newFixedThreadPool(threads);
+	}
+
+	private void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private Product createProduct(String name, int price, int stock) {
+		Product product = new Product();
+		product.setName(name);
+		product.setPrice(price);
+		product.setStockQuantity(stock);
+		product.setCategory(Category.ETC);
+		return productRepository.save(product);
+	}
+
+	private OrderCreateRequest createOrderRequest(Long productId, int quantity) {
+		OrderItemRequest item = new OrderItemRequest(productId, quantity);
+		return new OrderCreateRequest(List.of(item));
+	}
+}
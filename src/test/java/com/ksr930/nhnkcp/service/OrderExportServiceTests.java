@@ -0,0 +1,100 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.dto.order.ExportFormat;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderExportFilter;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
+import com.ksr930.nhnkcp.dto.product.ProductRequest;
+import com.ksr930.nhnkcp.dto.product.ProductResponse;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 청크 경계를 넘나드는 경로를 타도록 청크를 주문 한 건으로 줄인다.
+@SpringBootTest(properties = "nhnkcp.export.chunk-size=1")
+class OrderExportServiceTests {
+	@Autowired
+	private OrderExportService orderExportService;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@BeforeEach
+	void clearData() {
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("주문을 항목과 함께 NDJSON 으로 내보낸다")
+	void 주문을_항목과_함께_NDJSON_으로_내보낸다() throws Exception {
+		// 테스트 대상: OrderExportService#export, 의도: 주문 한 건이 한 줄이 되고 조인된 항목 행이 한 주문으로 묶이는지 검증
+		ProductResponse cola = productService.create(new ProductRequest("콜라", 1000, 10, Category.BEVERAGE));
+		ProductResponse cider = productService.create(new ProductRequest("사이다", 1200, 10, Category.BEVERAGE));
+		OrderResponse first = orderService.create(new OrderCreateRequest(List.of(
+				new OrderItemRequest(cola.id(), 1),
+				new OrderItemRequest(cider.id(), 2))));
+		OrderResponse second = orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(cola.id(), 3))));
+
+		List<String> lines = export(ExportFormat.NDJSON, new OrderExportFilter(null, null, null));
+
+		assertThat(lines).hasSize(2);
+		JsonNode firstLine = objectMapper.readTree(lines.get(0));
+		assertThat(firstLine.get("id").asLong()).isEqualTo(first.id());
+		assertThat(firstLine.get("items")).hasSize(2);
+		JsonNode secondLine = objectMapper.readTree(lines.get(1));
+		assertThat(secondLine.get("id").asLong()).isEqualTo(second.id());
+		assertThat(secondLine.get("items").get(0).get("quantity").asInt()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("상태 조건으로 걸러 CSV 로 내보낸다")
+	void 상태_조건으로_걸러_CSV_로_내보낸다() throws Exception {
+		// 테스트 대상: OrderExportService#export, 의도: status 필터와 CSV 헤더/이스케이프가 적용되는지 검증
+		ProductResponse product = productService.create(new ProductRequest("과자, 대용량", 3000, 10, Category.FOOD));
+		OrderResponse received = orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(product.id(), 1))));
+		orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(product.id(), 2))));
+		orderService.updateStatus(received.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+
+		List<String> lines = export(ExportFormat.CSV, new OrderExportFilter(OrderStatus.RECEIVED, null, null));
+
+		assertThat(lines).hasSize(2);
+		assertThat(lines.get(0)).startsWith("order_id,status");
+		assertThat(lines.get(1))
+				.startsWith(received.id() + ",RECEIVED,")
+				.endsWith("," + product.id() + ",\"과자, 대용량\",3000,1");
+	}
+
+	private List<String> export(ExportFormat format, OrderExportFilter filter) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		orderExportService.export(format, filter, out);
+		return out.toString(StandardCharsets.UTF_8).lines().toList();
+	}
+}
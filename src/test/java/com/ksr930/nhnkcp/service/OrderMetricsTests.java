@@ -0,0 +1,86 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
+import com.ksr930.nhnkcp.dto.product.ProductRequest;
+import com.ksr930.nhnkcp.dto.product.ProductResponse;
+import com.ksr930.nhnkcp.exception.ApiException;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class OrderMetricsTests {
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void clearData() {
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("주문 생성과 커밋된 상태 전이를 센다")
+	void 주문_생성과_커밋된_상태_전이를_센다() {
+		// 테스트 대상: OrderMetrics (OrderService#create, #updateStatus), 의도: 커밋된 생성/전이만 (from, to) 별로 집계되는지 검증
+		ProductResponse product = productService.create(new ProductRequest("쿠키", 1500, 1, Category.FOOD));
+		double createdBefore = created();
+		double receivedBefore = transitions(OrderStatus.PENDING, OrderStatus.RECEIVED);
+		double completedBefore = transitions(OrderStatus.RECEIVED, OrderStatus.COMPLETED);
+
+		OrderResponse first = orderService.create(request(product.id()));
+		OrderResponse second = orderService.create(request(product.id()));
+		orderService.updateStatus(first.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+		orderService.updateStatus(second.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+		orderService.updateStatus(first.id(), new OrderStatusUpdateRequest(OrderStatus.COMPLETED));
+		// 재고가 1개뿐이라 두 번째 완료는 롤백되고 세지 않아야 한다.
+		assertThatThrownBy(() -> orderService.updateStatus(second.id(), new OrderStatusUpdateRequest(OrderStatus.COMPLETED)))
+				.isInstanceOf(ApiException.class);
+
+		assertThat(created() - createdBefore).isEqualTo(2);
+		assertThat(transitions(OrderStatus.PENDING, OrderStatus.RECEIVED) - receivedBefore).isEqualTo(2);
+		assertThat(transitions(OrderStatus.RECEIVED, OrderStatus.COMPLETED) - completedBefore).isEqualTo(1);
+	}
+
+	private double created() {
+		return meterRegistry.get("nhnkcp.orders.created").counter().count();
+	}
+
+	private double transitions(OrderStatus from, OrderStatus to) {
+		return meterRegistry.get("nhnkcp.orders.transitions")
+				.tag("from", from.name())
+				.tag("to", to.name())
+				.counter()
+				.count();
+	}
+
+	private OrderCreateRequest request(Long productId) {
+		return new OrderCreateRequest(List.of(new OrderItemRequest(productId, 1)));
+	}
+}
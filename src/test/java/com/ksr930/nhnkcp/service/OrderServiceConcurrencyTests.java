@@ -1,6 +1,9 @@
 package com.ksr930.nhnkcp.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.ksr930.nhnkcp.domain.order.OrderStatus;
 import com.ksr930.nhnkcp.domain.product.Category;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 @SpringBootTest
 class OrderServiceConcurrencyTests {
@@ -38,6 +42,9 @@ class OrderServiceConcurrencyTests {
 	@Autowired
 	private OrderRepository orderRepository;
 
+	@MockitoSpyBean
+	private StockService stockService;
+
 	@BeforeEach
 	void clearData() {
 		orderRepository.deleteAll();
@@ -58,7 +65,7 @@ class OrderServiceConcurrencyTests {
 
 		// 동시성 시뮬레이션: 동일 시점에 COMPLETED 전이를 시도하도록 시작 신호를 맞춘다.
 		CountDownLatch start = new CountDownLatch(1);
-		ExecutorService executor = Executors.newFixedThreadPool(2);
+		ExecutorService executor = newExecutor(2);
 		List<Callable<Throwable>> tasks = List.of(
 				() -> runCompletion(start, order1.id()),
 				() -> runCompletion(start, order2.id())
@@ -82,8 +89,7 @@ class OrderServiceConcurrencyTests {
         executor.shutdown();
 
 		// 기대 결과: 재고는 정확히 2개만 차감되어 1이 남아야 한다.
-		Product updated = productRepository.findById(product.getId()).orElseThrow();
-		assertThat(updated.getStockQuantity()).isEqualTo(1);
+		assertThat(currentStock(product.getId())).isEqualTo(1);
 
 		// 기대 결과: 두 주문 중 하나만 COMPLETED, 나머지는 실패해야 한다.
 		OrderResponse updatedOrder1 = orderService.get(order1.id());
@@ -97,10 +103,63 @@ class OrderServiceConcurrencyTests {
         assertThat(isExpectedFailure(failures.get(0))).isTrue();
     }
 
+	@Test
+	@DisplayName("같은 주문에 완료와 취소가 동시에 들어와도 재고 부수 효과는 성공한 전이마다 한 번씩만 반영된다")
+	void 같은_주문에_완료와_취소가_동시에_들어와도_재고는_한_번씩만_반영된다() throws Exception {
+		// 테스트 대상: OrderService#updateStatus (조건부 상태 전이), 의도: 동시 전이 결과가 어느 쪽이든 재고 차감/복구가 중복되지 않는지 검증
+		Product product = createProduct("전이 경합", 3000, 3);
+		OrderResponse order = orderService.create(createOrderRequest(product.getId(), 2));
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+		clearInvocations(stockService);
+
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = newExecutor(2);
+		Future<Throwable> completion = executor.submit(() -> runTransition(start, order.id(), OrderStatus.COMPLETED));
+		Future<Throwable> cancellation = executor.submit(() -> runTransition(start, order.id(), OrderStatus.CANCELED));
+		start.countDown();
+
+		Throwable completionFailure = completion.get();
+		Throwable cancellationFailure = cancellation.get();
+		executor.shutdown();
+
+		// COMPLETED 는 CANCELED 로 전이할 수 있으므로, 완료가 먼저 커밋되면 취소도 성공한다(완료 후 취소).
+		// 그 밖에는 먼저 전이한 쪽만 성공하고 나머지는 INVALID_STATUS_CHANGE 로 실패한다.
+		for (Throwable failure : new Throwable[]{completionFailure, cancellationFailure}) {
+			if (failure != null) {
+				assertThat(failure).isInstanceOfSatisfying(ApiException.class, exception ->
+						assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_STATUS_CHANGE));
+			}
+		}
+		assertThat(completionFailure == null || cancellationFailure == null).isTrue();
+
+		boolean completed = completionFailure == null;
+		boolean canceled = cancellationFailure == null;
+		OrderStatus finalStatus = orderService.get(order.id()).status();
+		assertThat(finalStatus).isEqualTo(canceled ? OrderStatus.CANCELED : OrderStatus.COMPLETED);
+
+		// 기대 결과: 차감은 완료가 성공했을 때만, 복구는 완료 후 취소가 성공했을 때만 정확히 한 번 일어난다.
+		verify(stockService, times(completed ? 1 : 0)).decreaseForOrder(order.id());
+		verify(stockService, times(completed && canceled ? 1 : 0)).restoreForOrder(order.id());
+		assertThat(currentStock(product.getId())).isEqualTo(completed && !canceled ? 1 : 3);
+	}
+
+	// 가상 스레드 모드 하위 클래스는 요청 스레드도 가상 스레드로 바꾼다.
+	protected ExecutorService newExecutor(int threads) {
+		return Executors.newFixedThreadPool(threads);
+	}
+
+    protected int currentStock(Long productId) {
+        return productRepository.findById(productId).orElseThrow().getStockQuantity();
+    }
+
     private Throwable runCompletion(CountDownLatch start, Long orderId) {
+        return runTransition(start, orderId, OrderStatus.COMPLETED);
+    }
+
+    private Throwable runTransition(CountDownLatch start, Long orderId, OrderStatus status) {
         try {
             start.await();
-            orderService.updateStatus(orderId, new OrderStatusUpdateRequest(OrderStatus.COMPLETED));
+            orderService.updateStatus(orderId, new OrderStatusUpdateRequest(status));
             return null;
         } catch (Throwable ex) {
             return ex;
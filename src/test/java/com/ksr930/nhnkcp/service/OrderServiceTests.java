@@ -2,12 +2,17 @@ package com.ksr930.nhnkcp.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.ksr930.nhnkcp.domain.order.OrderStatus;
 import com.ksr930.nhnkcp.domain.product.Category;
 import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.dto.CountMode;
+import com.ksr930.nhnkcp.dto.CursorPage;
 import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderFields;
 import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderItemResponse;
 import com.ksr930.nhnkcp.dto.order.OrderResponse;
 import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
 import com.ksr930.nhnkcp.exception.ApiException;
@@ -15,6 +20,8 @@ import com.ksr930.nhnkcp.exception.ErrorCode;
 import com.ksr930.nhnkcp.repository.OrderRepository;
 import com.ksr930.nhnkcp.repository.ProductRepository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +30,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -119,13 +127,61 @@ class OrderServiceTests {
         OrderResponse receivedOrder = orderService.create(createOrderRequest(product.getId(), 1));
         orderService.updateStatus(receivedOrder.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
 
-        Page<OrderResponse> responses =
-                orderService.listByStatus(OrderStatus.RECEIVED, PageRequest.of(0, 10));
+        Slice<OrderResponse> responses = orderService.listByStatus(
+                OrderStatus.RECEIVED, PageRequest.of(0, 10), CountMode.EXACT, OrderFields.FULL);
 
         assertThat(responses.getContent()).hasSize(1);
         assertThat(responses.getContent().get(0).id()).isEqualTo(receivedOrder.id());
     }
 
+	@Test
+	@DisplayName("주문 목록은 항목과 상품 정보를 함께 반환한다")
+	void 주문_목록은_항목과_상품_정보를_함께_반환한다() {
+		// 테스트 대상: OrderService#list (프로젝션 조회), 의도: 평면 행을 주문별로 묶어 항목 응답을 정확히 구성하는지 검증
+		Product cola = createProduct("제로콜라", 1800, 10);
+		Product cider = createProduct("사이다", 1600, 10);
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(
+				new OrderItemRequest(cola.getId(), 2),
+				new OrderItemRequest(cider.getId(), 3)
+		)));
+		OrderResponse other = orderService.create(createOrderRequest(cola.getId(), 1));
+
+		Page<OrderResponse> responses = (Page<OrderResponse>)
+				orderService.list(PageRequest.of(0, 10), CountMode.EXACT, OrderFields.FULL);
+
+		assertThat(responses.getTotalElements()).isEqualTo(2);
+		OrderResponse listed = responses.getContent().stream()
+				.filter(response -> response.id().equals(order.id()))
+				.findFirst()
+				.orElseThrow();
+		assertThat(listed.status()).isEqualTo(OrderStatus.PENDING);
+		assertThat(listed.items())
+				.extracting(OrderItemResponse::productName, OrderItemResponse::price, OrderItemResponse::quantity)
+				.containsExactlyInAnyOrder(tuple("제로콜라", 1800, 2), tuple("사이다", 1600, 3));
+		assertThat(responses.getContent().stream()
+				.filter(response -> response.id().equals(other.id()))
+				.findFirst()
+				.orElseThrow()
+				.items()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("요약 조회는 주문 항목을 포함하지 않는다")
+	void 요약_조회는_주문_항목을_포함하지_않는다() {
+		// 테스트 대상: OrderService#list/get (OrderFields.SUMMARY), 의도: 항목 조회를 생략하고 주문 필드만 반환하는지 검증
+		Product product = createProduct("젤리", 1200, 5);
+		OrderResponse order = orderService.create(createOrderRequest(product.getId(), 1));
+
+		Slice<OrderResponse> responses =
+				orderService.list(PageRequest.of(0, 10), CountMode.NONE, OrderFields.SUMMARY);
+		OrderResponse single = orderService.get(order.id(), OrderFields.SUMMARY);
+
+		assertThat(responses.getContent()).extracting(OrderResponse::id).containsExactly(order.id());
+		assertThat(responses.getContent()).allSatisfy(response -> assertThat(response.items()).isNull());
+		assertThat(single.status()).isEqualTo(OrderStatus.PENDING);
+		assertThat(single.items()).isNull();
+	}
+
 	@Test
 	@DisplayName("기간별 주문 목록을 조회한다")
 	void 기간별_주문_목록을_조회한다() {
@@ -136,7 +192,8 @@ class OrderServiceTests {
         LocalDateTime start = LocalDateTime.now().minusMinutes(1);
         LocalDateTime end = LocalDateTime.now().plusMinutes(1);
 
-        Page<OrderResponse> responses = orderService.listByPeriod(start, end, PageRequest.of(0, 10));
+        Slice<OrderResponse> responses =
+                orderService.listByPeriod(start, end, PageRequest.of(0, 10), CountMode.EXACT, OrderFields.FULL);
 
         assertThat(responses.getContent()).isNotEmpty();
     }
@@ -154,6 +211,45 @@ class OrderServiceTests {
         assertThat(updated.getStockQuantity()).isEqualTo(4);
     }
 
+	@Test
+	@DisplayName("커서로 주문 목록을 끝까지 이어서 조회한다")
+	void 커서로_주문_목록을_끝까지_이어서_조회한다() {
+		// 테스트 대상: OrderService#scroll, 의도: 커서를 따라가면 중복/누락 없이 최신순으로 모두 조회되는지 검증
+		Product product = createProduct("아이스크림", 1500, 10);
+		for (int i = 0; i < 5; i++) {
+			orderService.create(createOrderRequest(product.getId(), 1));
+		}
+
+		List<OrderResponse> scrolled = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			CursorPage<OrderResponse> page = orderService.scroll(null, null, null, cursor, 2);
+			scrolled.addAll(page.content());
+			cursor = page.nextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertThat(pages).isEqualTo(3);
+		assertThat(scrolled).extracting(OrderResponse::id).doesNotHaveDuplicates().hasSize(5);
+		assertThat(scrolled).extracting(OrderResponse::id)
+				.isSortedAccordingTo(Comparator.reverseOrder());
+		assertThat(scrolled).allSatisfy(response -> assertThat(response.items())
+				.singleElement()
+				.extracting(OrderItemResponse::productName)
+				.isEqualTo("아이스크림"));
+	}
+
+	@Test
+	@DisplayName("잘못된 커서로 조회하면 실패한다")
+	void 잘못된_커서로_조회하면_실패한다() {
+		// 테스트 대상: OrderService#scroll, 의도: 해석할 수 없는 커서를 INVALID_REQUEST 로 처리하는지 검증
+		assertThatThrownBy(() -> orderService.scroll(null, null, null, "not-a-cursor", 10))
+				.isInstanceOf(ApiException.class)
+				.satisfies(exception -> assertThat(((ApiException) exception).getErrorCode())
+						.isEqualTo(ErrorCode.INVALID_REQUEST));
+	}
+
     private Product createProduct(String name, int price, int stock) {
         Product product = new Product();
         product.setName(name);
@@ -0,0 +1,110 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ksr930.nhnkcp.config.CacheConfig;
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.dto.CountMode;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
+import com.ksr930.nhnkcp.dto.product.ProductRequest;
+import com.ksr930.nhnkcp.dto.product.ProductResponse;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.PageRequest;
+
+@SpringBootTest
+class ProductCacheTests {
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@BeforeEach
+	void clearData() {
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+	}
+
+	@Test
+	@DisplayName("상품 조회 결과를 캐시하고 수정하면 무효화한다")
+	void 상품_조회_결과를_캐시하고_수정하면_무효화한다() {
+		// 테스트 대상: ProductService#get, #update, 의도: 두 번째 조회는 캐시 적중, 수정 커밋 후에는 새 값이 조회되는지 검증
+		ProductResponse product = productService.create(new ProductRequest("녹차", 1800, 10, Category.BEVERAGE));
+		CacheStats before = statsOf(CacheConfig.PRODUCT);
+
+		productService.get(product.id());
+		productService.get(product.id());
+
+		CacheStats afterReads = statsOf(CacheConfig.PRODUCT).minus(before);
+		assertThat(afterReads.missCount()).isEqualTo(1);
+		assertThat(afterReads.hitCount()).isEqualTo(1);
+
+		productService.update(product.id(), new ProductRequest("말차", 2200, 10, Category.BEVERAGE));
+
+		assertThat(productService.get(product.id()).name()).isEqualTo("말차");
+	}
+
+	@Test
+	@DisplayName("주문 완료로 재고가 바뀌면 캐시된 상품과 목록을 무효화한다")
+	void 주문_완료로_재고가_바뀌면_캐시된_상품과_목록을_무효화한다() {
+		// 테스트 대상: StockService#decrease (캐시 무효화), 의도: 재고 차감 커밋 후 캐시에 남은 재고가 노출되지 않는지 검증
+		ProductResponse product = productService.create(new ProductRequest("홍차", 2000, 10, Category.BEVERAGE));
+		assertThat(productService.get(product.id()).stockQuantity()).isEqualTo(10);
+		assertThat(productService.listByCategory(Category.BEVERAGE, PageRequest.of(0, 10), CountMode.EXACT).getContent())
+				.extracting(ProductResponse::stockQuantity)
+				.containsExactly(10);
+
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(product.id(), 3))));
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.COMPLETED));
+
+		assertThat(productService.get(product.id()).stockQuantity()).isEqualTo(7);
+		assertThat(productService.listByCategory(Category.BEVERAGE, PageRequest.of(0, 10), CountMode.EXACT).getContent())
+				.extracting(ProductResponse::stockQuantity)
+				.containsExactly(7);
+	}
+
+	@Test
+	@DisplayName("EXACT 목록 조회만 목록 캐시를 쓴다")
+	void EXACT_목록_조회만_목록_캐시를_쓴다() {
+		// 테스트 대상: ProductService#listByCategory (CountMode), 의도: EXACT 는 캐시에서 읽고 NONE 은 캐시를 거치지 않는지 검증
+		productService.create(new ProductRequest("보리차", 1500, 10, Category.BEVERAGE));
+		CacheStats before = statsOf(CacheConfig.PRODUCT_PAGES);
+
+		productService.listByCategory(Category.BEVERAGE, PageRequest.of(0, 10), CountMode.EXACT);
+		productService.listByCategory(Category.BEVERAGE, PageRequest.of(0, 10), CountMode.EXACT);
+		productService.listByCategory(Category.BEVERAGE, PageRequest.of(0, 10), CountMode.NONE);
+
+		CacheStats afterReads = statsOf(CacheConfig.PRODUCT_PAGES).minus(before);
+		assertThat(afterReads.missCount()).isEqualTo(1);
+		assertThat(afterReads.hitCount()).isEqualTo(1);
+	}
+
+	private CacheStats statsOf(String cacheName) {
+		return ((CaffeineCache) cacheManager.getCache(cacheName)).getNativeCache().stats();
+	}
+}
@@ -0,0 +1,91 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
+import com.ksr930.nhnkcp.dto.product.ProductRequest;
+import com.ksr930.nhnkcp.dto.product.ProductResponse;
+import com.ksr930.nhnkcp.monitoring.ProductLockProfiler;
+import com.ksr930.nhnkcp.monitoring.ProductLockStats;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+		"nhnkcp.stock.mode=pessimistic",
+		"nhnkcp.lock-profiler.capacity=2"
+})
+class ProductLockProfilerTests {
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private ProductLockProfiler lockProfiler;
+
+	@BeforeEach
+	void clearData() {
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+		lockProfiler.reset();
+	}
+
+	@Test
+	@DisplayName("재고 차감과 복구 때마다 상품 별 락 획득과 보유 시간이 기록된다")
+	void 재고_차감과_복구_때마다_상품_별_락_획득과_보유_시간이_기록된다() {
+		// 테스트 대상: ProductLockProfiler#lock, 의도: PESSIMISTIC 엔진의 행 락 획득 횟수와 트랜잭션 종료 시 보유 시간이 집계되는지 검증
+		ProductResponse product = productService.create(new ProductRequest("한정 시계", 250000, 10, Category.FASHION));
+
+		OrderResponse order = complete(product.id(), 2);
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.CANCELED));
+
+		List<ProductLockStats> hottest = lockProfiler.hottest(ProductLockProfiler.Ranking.WAIT, 10);
+		assertThat(hottest).singleElement().satisfies(stats -> {
+			assertThat(stats.productId()).isEqualTo(product.id());
+			assertThat(stats.acquisitions()).isEqualTo(2);
+			assertThat(stats.timeouts()).isZero();
+			assertThat(stats.maxHoldMillis()).isGreaterThanOrEqualTo(0);
+		});
+	}
+
+	@Test
+	@DisplayName("집계 대상 상품 수는 capacity 를 넘지 않고 새 상품이 최소 항목을 밀어낸다")
+	void 집계_대상_상품_수는_capacity_를_넘지_않는다() {
+		// 테스트 대상: ProductLockTopK (Space-Saving), 의도: 상품 수가 capacity 를 넘어도 메모리가 고정되고 최근 상품이 남는지 검증
+		ProductResponse first = productService.create(new ProductRequest("상품1", 1000, 10, Category.FOOD));
+		ProductResponse second = productService.create(new ProductRequest("상품2", 1000, 10, Category.FOOD));
+		ProductResponse third = productService.create(new ProductRequest("상품3", 1000, 10, Category.FOOD));
+
+		complete(first.id(), 1);
+		complete(second.id(), 1);
+		complete(third.id(), 1);
+
+		List<ProductLockStats> hottest = lockProfiler.hottest(ProductLockProfiler.Ranking.WAIT, 10);
+		assertThat(hottest).hasSize(2);
+		assertThat(hottest).extracting(ProductLockStats::productId).contains(third.id());
+	}
+
+	private OrderResponse complete(Long productId, int quantity) {
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(productId, quantity))));
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+		return orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.COMPLETED));
+	}
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ksr930.nhnkcp.domain.product.Category;
 import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.dto.CountMode;
 import com.ksr930.nhnkcp.dto.product.ProductRequest;
 import com.ksr930.nhnkcp.dto.product.ProductResponse;
 import com.ksr930.nhnkcp.repository.ProductRepository;
@@ -13,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 @SpringBootTest
@@ -62,12 +64,46 @@ class ProductServiceTests {
 		createProduct("청바지", 20000, 2, Category.FASHION);
 		createProduct("스피커", 50000, 1, Category.ELECTRONICS);
 
-		Page<ProductResponse> responses =
-				productService.listByCategory(Category.FASHION, PageRequest.of(0, 10));
+		Slice<ProductResponse> responses =
+				productService.listByCategory(Category.FASHION, PageRequest.of(0, 10), CountMode.EXACT);
 
 		assertThat(responses.getContent()).hasSize(2);
 	}
 
+	@Test
+	@DisplayName("건수 없이 다음 페이지 여부만 조회한다")
+	void 건수_없이_다음_페이지_여부만_조회한다() {
+		// 테스트 대상: ProductService#listByCategory (CountMode.NONE), 의도: COUNT 없이 Slice 로 다음 페이지 여부를 반환하는지 검증
+		createProduct("모자", 15000, 3, Category.ETC);
+		createProduct("우산", 12000, 2, Category.ETC);
+
+		Slice<ProductResponse> responses =
+				productService.listByCategory(Category.ETC, PageRequest.of(0, 1), CountMode.NONE);
+
+		assertThat(responses).isNotInstanceOf(Page.class);
+		assertThat(responses.getContent()).hasSize(1);
+		assertThat(responses.hasNext()).isTrue();
+	}
+
+	@Test
+	@DisplayName("캐시된 건수는 TTL 동안 유지된다")
+	void 캐시된_건수는_TTL_동안_유지된다() {
+		// 테스트 대상: ProductService#listByCategory (CountMode.CACHED), 의도: TTL 안에서는 COUNT 를 다시 실행하지 않는지 검증
+		createProduct("노트북", 1500000, 1, Category.ELECTRONICS);
+		Page<ProductResponse> first = (Page<ProductResponse>)
+				productService.listByCategory(Category.ELECTRONICS, PageRequest.of(0, 1), CountMode.CACHED);
+
+		createProduct("모니터", 300000, 1, Category.ELECTRONICS);
+		createProduct("키보드", 80000, 1, Category.ELECTRONICS);
+		Page<ProductResponse> cached = (Page<ProductResponse>)
+				productService.listByCategory(Category.ELECTRONICS, PageRequest.of(0, 1), CountMode.CACHED);
+		Page<ProductResponse> exact = (Page<ProductResponse>)
+				productService.listByCategory(Category.ELECTRONICS, PageRequest.of(0, 1), CountMode.EXACT);
+
+		assertThat(cached.getTotalElements()).isEqualTo(first.getTotalElements());
+		assertThat(exact.getTotalElements()).isEqualTo(first.getTotalElements() + 2);
+	}
+
 	private Product createProduct(String name, int price, int stock, Category category) {
 		Product product = new Product();
 		product.setName(name);
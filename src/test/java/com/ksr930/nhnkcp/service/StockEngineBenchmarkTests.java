@@ -0,0 +1,189 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ksr930.nhnkcp.config.StockProperties;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import com.ksr930.nhnkcp.service.stock.StockEngine;
+import com.ksr930.nhnkcp.service.stock.StockMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 재고 전략별 처리량 비교. {@code ./gradlew benchmark} 로만 실행된다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class StockEngineBenchmarkTests {
+	private static final Logger log = LoggerFactory.getLogger(StockEngineBenchmarkTests.class);
+	private static final int THREADS = 16;
+	private static final int OPERATIONS_PER_THREAD = 100;
+	private static final int[] HOT_PRODUCT_COUNTS = {1, 4, 16};
+	private static final List<StockMode> MODES = List.of(
+			StockMode.PESSIMISTIC,
+			StockMode.OPTIMISTIC,
+			StockMode.CONDITIONAL_UPDATE
+	);
+
+	@Autowired
+	private List<StockEngine> engines;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private StockProperties stockProperties;
+
+	@BeforeEach
+	void clearData() {
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("경합 수준별로 재고 전략의 처리량을 비교한다")
+	void 경합_수준별로_재고_전략의_처리량을_비교한다() throws Exception {
+		// 테스트 대상: StockEngine 구현체별 decrease, 의도: 상품 수(경합 수준)에 따른 처리량/재시도 횟수 비교
+		// 재시도 소진과 락 타임아웃은 경합이 심한 설정에서 예상되는 결과이므로 보고만 하고, 재고가 새지 않았는지만 검증한다.
+		log.info("[Benchmark] threads={} operationsPerThread={}", THREADS, OPERATIONS_PER_THREAD);
+		for (int hotProducts : HOT_PRODUCT_COUNTS) {
+			for (StockMode mode : MODES) {
+				Result result = run(engineOf(mode), hotProducts);
+				log.info("[Benchmark] mode={} hotProducts={} ops/s={} succeeded={} retries={} exhausted={} failures={}",
+						mode, hotProducts, String.format("%.1f", result.opsPerSecond()),
+						result.succeeded(), result.retries(), result.exhausted(), result.failures());
+				assertThat(result.remainingStock() + result.succeeded())
+						.as("mode=%s hotProducts=%d 재고 보존", mode, hotProducts)
+						.isEqualTo((long) hotProducts * THREADS * OPERATIONS_PER_THREAD);
+			}
+		}
+	}
+
+	private Result run(StockEngine engine, int hotProducts) throws Exception {
+		List<Long> productIds = new ArrayList<>();
+		for (int i = 0; i < hotProducts; i++) {
+			productIds.add(createProduct("벤치마크-" + i, THREADS * OPERATIONS_PER_THREAD).getId());
+		}
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		AtomicLong succeeded = new AtomicLong();
+		AtomicLong retries = new AtomicLong();
+		AtomicLong exhausted = new AtomicLong();
+		AtomicLong failures = new AtomicLong();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				for (int op = 0; op < OPERATIONS_PER_THREAD; op++) {
+					Long productId = productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()));
+					TreeMap<Long, Integer> quantity = new TreeMap<>();
+					quantity.put(productId, 1);
+					switch (decreaseWithRetry(transactionTemplate, engine, quantity, retries)) {
+						case SUCCEEDED -> succeeded.incrementAndGet();
+						case EXHAUSTED -> exhausted.incrementAndGet();
+						case FAILED -> failures.incrementAndGet();
+					}
+				}
+				return null;
+			}));
+		}
+		long startedAt = System.nanoTime();
+		start.countDown();
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		long elapsedNanos = System.nanoTime() - startedAt;
+		executor.shutdown();
+
+		double opsPerSecond = (double) THREADS * OPERATIONS_PER_THREAD / (elapsedNanos / 1_000_000_000.0);
+		long remainingStock = productRepository.findAllById(productIds)
+				.stream()
+				.mapToLong(Product::getStockQuantity)
+				.sum();
+		return new Result(opsPerSecond, succeeded.get(), retries.get(), exhausted.get(), failures.get(), remainingStock);
+	}
+
+	// OptimisticLockRetryAspect 와 같은 방식으로 트랜잭션 바깥에서 재시도한다.
+	private Outcome decreaseWithRetry(
+			TransactionTemplate transactionTemplate,
+			StockEngine engine,
+			TreeMap<Long, Integer> quantity,
+			AtomicLong retries
+	) throws InterruptedException {
+		StockProperties.Optimistic optimistic = stockProperties.optimistic();
+		for (int attempt = 1; ; attempt++) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> engine.decrease(quantity));
+				return Outcome.SUCCEEDED;
+			} catch (OptimisticLockingFailureException ex) {
+				if (attempt >= optimistic.maxAttempts()) {
+					return Outcome.EXHAUSTED;
+				}
+				retries.incrementAndGet();
+				Thread.sleep(optimistic.backoff(attempt));
+			} catch (RuntimeException ex) {
+				return Outcome.FAILED;
+			}
+		}
+	}
+
+	private StockEngine engineOf(StockMode mode) {
+		return engines.stream()
+				.filter(engine -> engine.mode() == mode)
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private Product createProduct(String name, int stock) {
+		Product product = new Product();
+		product.setName(name);
+		product.setPrice(1000);
+		product.setStockQuantity(stock);
+		product.setCategory(Category.BEVERAGE);
+		return productRepository.save(product);
+	}
+
+	private enum Outcome {
+		SUCCEEDED,
+		EXHAUSTED,
+		FAILED
+	}
+
+	private record Result(
+			double opsPerSecond,
+			long succeeded,
+			long retries,
+			long exhausted,
+			long failures,
+			long remainingStock
+	) {
+	}
+}
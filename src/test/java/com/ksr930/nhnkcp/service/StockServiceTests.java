@@ -0,0 +1,77 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
+import com.ksr930.nhnkcp.exception.ApiException;
+import com.ksr930.nhnkcp.exception.ErrorCode;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class StockServiceTests {
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@BeforeEach
+	void clearData() {
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("여러 상품 중 하나라도 재고가 부족하면 전체 차감이 롤백된다")
+	void 여러_상품_중_하나라도_재고가_부족하면_전체_차감이_롤백된다() {
+		// 테스트 대상: StockService#decrease (조건부 UPDATE 배치), 의도: 한 건 실패 시 같은 배치의 다른 상품 차감도 취소되는지 검증
+		Product enough = createProduct("우유", 1200, 5);
+		Product scarce = createProduct("치즈", 4000, 1);
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(
+				new OrderItemRequest(enough.getId(), 2),
+				new OrderItemRequest(scarce.getId(), 1)
+		)));
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+
+		// 준비 단계: 주문 이후 다른 경로로 재고가 소진된 상황을 만든다.
+		scarce.setStockQuantity(0);
+		productRepository.save(scarce);
+
+		assertThatThrownBy(() -> orderService.updateStatus(
+				order.id(),
+				new OrderStatusUpdateRequest(OrderStatus.COMPLETED)
+		))
+				.isInstanceOf(ApiException.class)
+				.satisfies(exception -> assertThat(((ApiException) exception).getErrorCode())
+						.isEqualTo(ErrorCode.OUT_OF_STOCK));
+
+		assertThat(productRepository.findById(enough.getId()).orElseThrow().getStockQuantity()).isEqualTo(5);
+		assertThat(orderService.get(order.id()).status()).isEqualTo(OrderStatus.RECEIVED);
+	}
+
+	private Product createProduct(String name, int price, int stock) {
+		Product product = new Product();
+		product.setName(name);
+		product.setPrice(price);
+		product.setStockQuantity(stock);
+		product.setCategory(Category.FOOD);
+		return productRepository.save(product);
+	}
+}
@@ -0,0 +1,149 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.domain.product.Product;
+import com.ksr930.nhnkcp.domain.product.ProductStockSlot;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
+import com.ksr930.nhnkcp.dto.product.ProductRequest;
+import com.ksr930.nhnkcp.dto.product.ProductResponse;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import com.ksr930.nhnkcp.repository.ProductStockSlotRepository;
+import com.ksr930.nhnkcp.service.stock.StripedStockEngine;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest(properties = {
+		"nhnkcp.stock.mode=striped",
+		"nhnkcp.stock.striping.default-stripes=4"
+})
+class StripedStockEngineTests {
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private ProductStockSlotRepository slotRepository;
+
+	@Autowired
+	private StripedStockEngine stripedStockEngine;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	void clearData() {
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+		slotRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("주문 완료 시 슬롯 중 하나에서 차감되고 상품 재고는 슬롯 합계로 조회된다")
+	void 주문_완료_시_슬롯에서_차감되고_재고는_슬롯_합계로_조회된다() {
+		// 테스트 대상: StripedStockEngine#decrease, 의도: 슬롯 분할 후 차감 결과가 ProductResponse 합계에 반영되는지 검증
+		ProductResponse product = productService.create(new ProductRequest("한정 운동화", 99000, 10, Category.FASHION));
+
+		complete(product.id(), 2);
+
+		assertThat(slotsOf(product.id())).hasSize(4);
+		assertThat(productService.get(product.id()).stockQuantity()).isEqualTo(8);
+	}
+
+	@Test
+	@DisplayName("슬롯 차감과 복구는 같은 트랜잭션에서 로딩한 엔티티를 분리하지 않는다")
+	void 슬롯_차감과_복구는_로딩한_엔티티를_분리하지_않는다() {
+		// 테스트 대상: ProductStockSlotRepository#decreaseSlot/increaseSlot, 의도: 벌크 UPDATE 가 영속성 컨텍스트를 비워 호출자의 엔티티를 분리하지 않는지 검증
+		ProductResponse response = productService.create(new ProductRequest("한정 모자", 39000, 10, Category.FASHION));
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			Product product = productRepository.findById(response.id()).orElseThrow();
+
+			stripedStockEngine.decrease(new TreeMap<>(Map.of(response.id(), 2)));
+			stripedStockEngine.restore(new TreeMap<>(Map.of(response.id(), 1)));
+
+			assertThat(entityManager.contains(product)).isTrue();
+		});
+		assertThat(slotsOf(response.id()).stream().mapToInt(ProductStockSlot::getQuantity).sum()).isEqualTo(9);
+	}
+
+	@Test
+	@DisplayName("한 슬롯의 재고로 부족하면 여러 슬롯에 나눠 차감한다")
+	void 한_슬롯의_재고로_부족하면_여러_슬롯에_나눠_차감한다() {
+		// 테스트 대상: StripedStockEngine#decrease (슬롯 폴백), 의도: 슬롯별 재고가 부족해도 합계가 충분하면 차감되는지 검증
+		ProductResponse product = productService.create(new ProductRequest("한정 모자", 30000, 8, Category.FASHION));
+
+		complete(product.id(), 5);
+
+		assertThat(productService.get(product.id()).stockQuantity()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("재입고와 재고 복구 시 슬롯이 다시 균형을 맞춘다")
+	void 재입고와_재고_복구_시_슬롯이_다시_균형을_맞춘다() {
+		// 테스트 대상: StripedStockEngine#replaceStock, #restore, 의도: 재입고는 균등 분할, 복구는 가장 적은 슬롯에 더해지는지 검증
+		ProductResponse product = productService.create(new ProductRequest("한정 가방", 150000, 4, Category.FASHION));
+		OrderResponse order = complete(product.id(), 3);
+
+		productService.update(product.id(), new ProductRequest("한정 가방", 150000, 20, Category.FASHION));
+		assertThat(slotsOf(product.id())).extracting(ProductStockSlot::getQuantity).containsOnly(5);
+
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.CANCELED));
+		assertThat(productService.get(product.id()).stockQuantity()).isEqualTo(23);
+		assertThat(slotsOf(product.id())).extracting(ProductStockSlot::getQuantity)
+				.containsExactlyInAnyOrder(8, 5, 5, 5);
+	}
+
+	@Test
+	@DisplayName("커밋된 슬롯 변경은 동기화 주기에 products.stock_quantity 로 옮겨진다")
+	void 커밋된_슬롯_변경은_상품_재고_컬럼으로_옮겨진다() {
+		// 테스트 대상: StripedStockEngine#syncProductStock, 의도: 슬롯으로 나눈 뒤에도 재고 컬럼을 직접 읽는 쪽이 슬롯 합계를 보는지 검증
+		ProductResponse product = productService.create(new ProductRequest("한정 장갑", 25000, 10, Category.FASHION));
+		OrderResponse order = complete(product.id(), 3);
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.CANCELED));
+		complete(product.id(), 4);
+
+		stripedStockEngine.syncProductStock();
+
+		assertThat(productRepository.findById(product.id()).orElseThrow().getStockQuantity()).isEqualTo(6);
+	}
+
+	private OrderResponse complete(Long productId, int quantity) {
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(productId, quantity))));
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+		return orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.COMPLETED));
+	}
+
+	private List<ProductStockSlot> slotsOf(Long productId) {
+		return slotRepository.findAll()
+				.stream()
+				.filter(slot -> slot.getProductId().equals(productId))
+				.toList();
+	}
+}
@@ -0,0 +1,113 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderFields;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
+import com.ksr930.nhnkcp.dto.product.ProductRequest;
+import com.ksr930.nhnkcp.dto.product.ProductResponse;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import com.ksr930.nhnkcp.service.cache.TerminalOrderCache;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class TerminalOrderCacheTests {
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private TerminalOrderCache terminalOrderCache;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@BeforeEach
+	void clearData() {
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("완료된 주문은 캐시에서 조회된다")
+	void 완료된_주문은_캐시에서_조회된다() {
+		// 테스트 대상: OrderService#get, 의도: COMPLETED 주문은 첫 조회 후 캐시되고 SUMMARY 조회도 캐시 값으로 응답하는지 검증
+		OrderResponse order = completedOrder(2);
+
+		OrderResponse first = orderService.get(order.id());
+
+		assertThat(terminalOrderCache.get(order.id())).isNotNull();
+		assertThat(orderService.get(order.id())).isEqualTo(first);
+		OrderResponse summary = orderService.get(order.id(), OrderFields.SUMMARY);
+		assertThat(summary.status()).isEqualTo(OrderStatus.COMPLETED);
+		assertThat(summary.items()).isNull();
+	}
+
+	@Test
+	@DisplayName("진행 중인 주문은 캐시하지 않는다")
+	void 진행_중인_주문은_캐시하지_않는다() {
+		// 테스트 대상: OrderService#get, 의도: 상태가 바뀔 수 있는 RECEIVED 주문은 캐시에 남지 않는지 검증
+		ProductResponse product = productService.create(new ProductRequest("라떼", 4500, 10, Category.BEVERAGE));
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(product.id(), 1))));
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+
+		orderService.get(order.id());
+
+		assertThat(terminalOrderCache.get(order.id())).isNull();
+	}
+
+	@Test
+	@DisplayName("완료 주문을 취소하면 캐시를 무효화한다")
+	void 완료_주문을_취소하면_캐시를_무효화한다() {
+		// 테스트 대상: OrderService#updateStatus (캐시 무효화), 의도: COMPLETED → CANCELED 커밋 후 이전 상태가 조회되지 않는지 검증
+		OrderResponse order = completedOrder(3);
+		assertThat(orderService.get(order.id()).status()).isEqualTo(OrderStatus.COMPLETED);
+
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.CANCELED));
+
+		OrderResponse canceled = orderService.get(order.id());
+		assertThat(canceled.status()).isEqualTo(OrderStatus.CANCELED);
+		assertThat(canceled.items()).hasSize(1);
+		assertThat(terminalOrderCache.get(order.id()).status()).isEqualTo(OrderStatus.CANCELED);
+		assertThat(orderService.get(order.id())).isEqualTo(canceled);
+	}
+
+	@Test
+	@DisplayName("캐시된 주문도 바뀐 상품명으로 응답한다")
+	void 캐시된_주문도_바뀐_상품명으로_응답한다() {
+		// 테스트 대상: OrderService#get (상품명 결합), 의도: 캐시된 완료 주문이 상품 수정 이후 이전 상품명을 노출하지 않는지 검증
+		OrderResponse order = completedOrder(1);
+		Long productId = order.items().get(0).productId();
+		assertThat(orderService.get(order.id()).items().get(0).productName()).isEqualTo("아메리카노");
+
+		productService.update(productId, new ProductRequest("디카페인 아메리카노", 4000, 9, Category.BEVERAGE));
+
+		OrderResponse cached = orderService.get(order.id());
+		assertThat(terminalOrderCache.get(order.id())).isNotNull();
+		assertThat(cached.items().get(0).productName()).isEqualTo("디카페인 아메리카노");
+		assertThat(cached.items().get(0).price()).isEqualTo(4000);
+	}
+
+	private OrderResponse completedOrder(int quantity) {
+		ProductResponse product = productService.create(new ProductRequest("아메리카노", 4000, 10, Category.BEVERAGE));
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(new OrderItemRequest(product.id(), quantity))));
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+		return orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.COMPLETED));
+	}
+}
@@ -0,0 +1,89 @@
+package com.ksr930.nhnkcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ksr930.nhnkcp.domain.order.OrderStatus;
+import com.ksr930.nhnkcp.domain.product.Category;
+import com.ksr930.nhnkcp.dto.order.OrderCreateRequest;
+import com.ksr930.nhnkcp.dto.order.OrderItemRequest;
+import com.ksr930.nhnkcp.dto.order.OrderResponse;
+import com.ksr930.nhnkcp.dto.order.OrderStatusUpdateRequest;
+import com.ksr930.nhnkcp.dto.product.ProductRequest;
+import com.ksr930.nhnkcp.dto.product.ProductResponse;
+import com.ksr930.nhnkcp.monitoring.TransactionWatchdog;
+import com.ksr930.nhnkcp.repository.OrderRepository;
+import com.ksr930.nhnkcp.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "nhnkcp.transaction-watchdog.slow-threshold=0ms")
+class TransactionWatchdogTests {
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Autowired
+	private ProductRepository productRepository;
+
+	@Autowired
+	private OrderRepository orderRepository;
+
+	@Autowired
+	private TransactionWatchdog watchdog;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@BeforeEach
+	void clearData() {
+		orderRepository.deleteAll();
+		productRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("재고 락을 쥔 트랜잭션이 임계값을 넘기면 메서드, 주문 ID, 상품 ID 가 기록된다")
+	void 재고_락을_쥔_트랜잭션이_임계값을_넘기면_주문과_상품이_기록된다() {
+		// 테스트 대상: TransactionWatchdog#end, 의도: 임계값 0 에서 재고를 차감하는 COMPLETED 전이가 락 보유 트랜잭션으로 남는지 검증
+		ProductResponse first = productService.create(new ProductRequest("키보드", 89000, 10, Category.ELECTRONICS));
+		ProductResponse second = productService.create(new ProductRequest("마우스", 39000, 10, Category.ELECTRONICS));
+		OrderResponse order = orderService.create(new OrderCreateRequest(List.of(
+				new OrderItemRequest(second.id(), 1),
+				new OrderItemRequest(first.id(), 2)
+		)));
+
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.RECEIVED));
+		orderService.updateStatus(order.id(), new OrderStatusUpdateRequest(OrderStatus.COMPLETED));
+
+		TransactionWatchdog.Snapshot snapshot = watchdog.snapshot();
+		assertThat(snapshot.active()).isEmpty();
+		assertThat(snapshot.recentSlow()).first().satisfies(slow -> {
+			assertThat(slow.method()).isEqualTo("OrderService.updateStatus");
+			assertThat(slow.state()).isEqualTo("success");
+			assertThat(slow.orderId()).isEqualTo(order.id());
+			assertThat(slow.productIds()).containsExactly(first.id(), second.id());
+		});
+	}
+
+	@Test
+	@DisplayName("락을 잡지 않은 트랜잭션은 시간만 기록되고 느린 트랜잭션으로 남지 않는다")
+	void 락을_잡지_않은_트랜잭션은_느린_트랜잭션으로_남지_않는다() {
+		// 테스트 대상: TransactionWatchdog, 의도: 조회/생성처럼 재고 락이 없는 트랜잭션은 duration 만 기록하고 경고하지 않는지 검증
+		ProductResponse product = productService.create(new ProductRequest("모니터", 320000, 5, Category.ELECTRONICS));
+		productService.get(product.id());
+
+		assertThat(watchdog.snapshot().recentSlow())
+				.noneMatch(slow -> slow.method().startsWith("ProductService."));
+		assertThat(registry.get("nhnkcp.transaction.duration")
+				.tag("method", "ProductService.get")
+				.tag("outcome", "success")
+				.timer()
+				.count()).isPositive();
+	}
+}
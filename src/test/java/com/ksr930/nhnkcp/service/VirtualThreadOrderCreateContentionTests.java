@@ -0,0 +1,14 @@
+package com.ksr930.nhnkcp.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 가상 스레드 모드에서도 행 락을 잡은 트랜잭션이 주문 생성을 막지 않아야 한다.
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadOrderCreateContentionTests extends OrderCreateContentionTests {
+	@Override
+	protected ExecutorService newExecutor(int threads) {
+		return Executors.newVirtualThreadPerTaskExecutor();
+	}
+}
@@ -0,0 +1,14 @@
+package com.ksr930.nhnkcp.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 가상 스레드 모드에서도 같은 동시성 보장이 유지되어야 한다. 요청 스레드와 애플리케이션 실행기를 모두 가상 스레드로 바꾼다.
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadOrderServiceConcurrencyTests extends OrderServiceConcurrencyTests {
+	@Override
+	protected ExecutorService newExecutor(int threads) {
+		return Executors.newVirtualThreadPerTaskExecutor();
+	}
+}